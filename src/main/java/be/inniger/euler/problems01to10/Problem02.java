@@ -1,6 +1,7 @@
 package be.inniger.euler.problems01to10;
 
 import be.inniger.euler.Problem;
+import be.inniger.euler.util.LinearRecurrence;
 
 /*
  * Even Fibonacci numbers
@@ -15,15 +16,6 @@ public class Problem02 implements Problem {
 
   @Override
   public long solve() {
-    return fib(1, 0, 0);
-  }
-
-  private int fib(int prev, int prevPrev, int evenSum) {
-    if (prev > MAX_VALUE) {
-      return evenSum;
-    }
-
-    var current = prev + prevPrev;
-    return fib(current, prev, evenSum + (current % 2 == 0 ? current : 0));
+    return LinearRecurrence.evenFibonacciSum(MAX_VALUE);
   }
 }
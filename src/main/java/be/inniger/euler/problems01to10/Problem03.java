@@ -1,10 +1,9 @@
 package be.inniger.euler.problems01to10;
 
 import be.inniger.euler.Problem;
+import be.inniger.euler.value.Factor;
 
-import static be.inniger.euler.util.CollectionUtil.reverseStream;
-import static be.inniger.euler.util.Math.getPrimesUpUntil;
-import static be.inniger.euler.util.Math.roundedSqrt;
+import static be.inniger.euler.value.FactorizedInteger.factorizedInteger;
 
 /*
  * Largest prime factor
@@ -18,9 +17,10 @@ public class Problem03 implements Problem {
 
   @Override
   public long solve() {
-    return reverseStream(getPrimesUpUntil(roundedSqrt(NUMBER)))
-        .filter(prime -> NUMBER % prime == 0L)
-        .findFirst()
+    return factorizedInteger(NUMBER)
+        .getFactors()
+        .mapToLong(Factor::getPrime)
+        .max()
         .orElseThrow();
   }
 }
@@ -6,8 +6,8 @@ import be.inniger.euler.value.Factor;
 import be.inniger.euler.value.FactorizedInteger;
 
 import java.util.Optional;
-import java.util.stream.IntStream;
 
+import static be.inniger.euler.value.FactorizedInteger.factorizeRange;
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.groupingBy;
 
@@ -23,8 +23,7 @@ public class Problem05 implements Problem {
 
   @Override
   public long solve() {
-    return IntStream.rangeClosed(1, MAX_VALUE) // Iterate over all numbers from 1 to 20
-        .mapToObj(FactorizedInteger::factorizedInteger) // Decompose every number into its Factors
+    return factorizeRange(1, MAX_VALUE) // Decompose every number from 1 to 20 into its Factors
         .flatMap(FactorizedInteger::getFactors) // Stream all these Factors
         .collect(groupingBy(Factor::getPrime)) // Group all these Factors by prime
         .values()
@@ -33,6 +32,6 @@ public class Problem05 implements Problem {
             .max(comparing(Factor::getExponent))) // Per prime pick the factor with the highest frequency
         .flatMap(Optional::stream)
         .map(Factor::getValue) // Get the power of each prime factor back with its frequency
-        .reduce(1, Math::multiply); // Make the product of all these powers to get the smallest number evenly divisible by all numbers
+        .reduce(1L, Math::multiply); // Make the product of all these powers to get the smallest number evenly divisible by all numbers
   }
 }
@@ -1,9 +1,8 @@
 package be.inniger.euler.problems01to10;
 
 import be.inniger.euler.Problem;
-import be.inniger.euler.util.Math;
 
-import static be.inniger.euler.util.Math.getPrimesUpUntil;
+import static be.inniger.euler.util.PrimeCounting.sumOfPrimesUpTo;
 
 /*
  * Summation of primes
@@ -17,9 +16,6 @@ public class Problem10 implements Problem {
 
   @Override
   public long solve() {
-    return getPrimesUpUntil(MAX_VALUE)
-        .stream()
-        .map(Math::toLong)
-        .reduce(0L, Math::sum);
+    return sumOfPrimesUpTo(MAX_VALUE - 1).longValueExact();
   }
 }
@@ -1,15 +1,10 @@
 package be.inniger.euler.problems11to20;
 
 import be.inniger.euler.Problem;
-import be.inniger.euler.util.Math;
-import be.inniger.euler.value.Factor;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.IntStream;
+import be.inniger.euler.util.DivisorSieve;
 
+import static be.inniger.euler.util.DivisorSieve.divisorSieve;
 import static be.inniger.euler.util.Math.isEven;
-import static be.inniger.euler.value.FactorizedInteger.factorizedInteger;
 
 /*
  * Highly divisible triangular number
@@ -30,16 +25,20 @@ import static be.inniger.euler.value.FactorizedInteger.factorizedInteger;
 public class Problem12 implements Problem {
 
   private static final int MINIMUM_NR_DIVISORS = 500 + 1;
+  // First size of the divisor table, doubled every time n + 1 runs past it
+  private static final int INITIAL_TABLE_SIZE = 1 << 10;
 
   @Override
   public long solve() {
-    var nrDivisorsCache = new HashMap<Integer, Integer>();
-
-    return IntStream.iterate(1, Math::inc)
-        .dropWhile(n -> getNrDivisorsOfNthTriangle(n, nrDivisorsCache) < MINIMUM_NR_DIVISORS)
-        .map(this::getNthTriangle)
-        .findFirst()
-        .orElseThrow();
+    var n = 1;
+    for (var tableSize = INITIAL_TABLE_SIZE; ; tableSize *= 2) {
+      var divisorSieve = divisorSieve(tableSize);
+      for (; n < tableSize; n++) {
+        if (getNrDivisorsOfNthTriangle(n, divisorSieve) >= MINIMUM_NR_DIVISORS) {
+          return getNthTriangle(n);
+        }
+      }
+    }
   }
 
   /*
@@ -48,19 +47,10 @@ public class Problem12 implements Problem {
    * D(t) = D(n/2) * D(n+1)     -- if n   is even
    * D(t) = D(n)   * D((n+1)/2) -- if n+1 is even
    */
-  private int getNrDivisorsOfNthTriangle(int n, Map<Integer, Integer> cache) {
+  private int getNrDivisorsOfNthTriangle(int n, DivisorSieve divisorSieve) {
     return isEven(n) ?
-        getNrDivisors(n / 2, cache) * getNrDivisors(n + 1, cache) :
-        getNrDivisors(n, cache) * getNrDivisors((n + 1) / 2, cache);
-  }
-
-  private int getNrDivisors(int number, Map<Integer, Integer> cache) {
-    return cache.computeIfAbsent(number, __ ->
-        factorizedInteger(number)
-            .getFactors()
-            .map(Factor::getExponent)
-            .mapToInt(Math::inc)
-            .reduce(1, Math::multiply));
+        divisorSieve.divisorCount(n / 2) * divisorSieve.divisorCount(n + 1) :
+        divisorSieve.divisorCount(n) * divisorSieve.divisorCount((n + 1) / 2);
   }
 
   private int getNthTriangle(int n) {
@@ -2,11 +2,8 @@ package be.inniger.euler.problems11to20;
 
 import be.inniger.euler.Problem;
 
-import java.math.BigInteger;
-import java.util.List;
-
-import static be.inniger.euler.util.CollectionUtil.readProblemDataAndTransform;
-import static java.util.stream.Collectors.toUnmodifiableList;
+import static be.inniger.euler.util.CollectionUtil.readProblemDataBytesAndTransform;
+import static be.inniger.euler.util.ColumnAdder.columnAdder;
 
 /*
  * Large sum
@@ -19,17 +16,7 @@ public class Problem13 implements Problem {
 
   @Override
   public long solve() {
-    return readNumbers().stream()
-        .reduce(BigInteger::add)
-        .map(BigInteger::toString)
-        .map(sum -> sum.substring(0, NR_DIGITS))
-        .map(Long::valueOf)
-        .orElseThrow();
-  }
-
-  private List<BigInteger> readNumbers() {
-    return readProblemDataAndTransform(this, lines ->
-        lines.map(BigInteger::new)
-            .collect(toUnmodifiableList()));
+    var sum = readProblemDataBytesAndTransform(this, bytes -> columnAdder().addAll(bytes));
+    return Long.parseLong(sum.leadingDigits(NR_DIGITS));
   }
 }
@@ -2,9 +2,7 @@ package be.inniger.euler.problems11to20;
 
 import be.inniger.euler.Problem;
 
-import java.math.BigInteger;
-
-import static be.inniger.euler.util.Math.factorial;
+import static be.inniger.euler.util.Binomial.binomial;
 
 /*
  * Lattice paths
@@ -67,17 +65,6 @@ public class Problem15 implements Problem {
    */
   @Override
   public long solve() {
-    return nChooseK(2 * GRID_DIMENSION, GRID_DIMENSION)
-        .longValueExact();
-  }
-
-  /*
-   * Calculate the number of combinations when picking k elements from n total.
-   *
-   * C(n, k) = n! / (k! * (n - k)!)
-   */
-  private BigInteger nChooseK(int n, int k) {
-    return factorial(n).divide(
-        factorial(k).multiply(factorial(n - k)));
+    return binomial(2 * GRID_DIMENSION, GRID_DIMENSION);
   }
 }
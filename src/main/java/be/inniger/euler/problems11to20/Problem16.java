@@ -1,6 +1,7 @@
 package be.inniger.euler.problems11to20;
 
 import be.inniger.euler.Problem;
+import be.inniger.euler.util.Digits;
 
 import java.math.BigInteger;
 
@@ -16,10 +17,6 @@ public class Problem16 implements Problem {
 
   @Override
   public long solve() {
-    return BigInteger.TWO.pow(EXPONENT)
-        .toString()
-        .chars()
-        .map(Character::getNumericValue)
-        .sum();
+    return Digits.digitSum(BigInteger.TWO.pow(EXPONENT));
   }
 }
@@ -1,6 +1,7 @@
 package be.inniger.euler.problems11to20;
 
 import be.inniger.euler.Problem;
+import be.inniger.euler.util.Digits;
 import be.inniger.euler.util.Math;
 
 /*
@@ -17,10 +18,6 @@ public class Problem20 implements Problem {
 
   @Override
   public long solve() {
-    return Math.factorial(NUMBER)
-        .toString()
-        .chars()
-        .map(Character::getNumericValue)
-        .sum();
+    return Digits.digitSum(Math.factorial(NUMBER));
   }
 }
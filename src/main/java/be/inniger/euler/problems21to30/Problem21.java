@@ -1,10 +1,12 @@
 package be.inniger.euler.problems21to30;
 
 import be.inniger.euler.Problem;
+import be.inniger.euler.util.DivisorSieve;
 
 import java.util.stream.IntStream;
 
-import static be.inniger.euler.util.Math.roundedSqrt;
+import static be.inniger.euler.util.DivisorSieve.divisorSieve;
+import static be.inniger.euler.value.FactorizedInteger.factorizedInteger;
 
 /*
  * Amicable numbers
@@ -20,24 +22,28 @@ public class Problem21 implements Problem {
 
   @Override
   public long solve() {
+    var sieve = divisorSieve(MAX_VALUE - 1);
+
     return IntStream.range(1, MAX_VALUE)
-        .filter(this::isAmicable)
+        .filter(number -> isAmicable(number, sieve))
         .sum();
   }
 
-  private boolean isAmicable(int number) {
-    int properDivisorsSum = getProperDivisorsSum(number);
+  private boolean isAmicable(int number, DivisorSieve sieve) {
+    var properDivisorsSum = sieve.properDivisorSum(number);
 
-    return getProperDivisorsSum(properDivisorsSum) == number &&
-        properDivisorsSum != number;
+    return properDivisorsSum != number &&
+        getProperDivisorsSum(properDivisorsSum, sieve) == number;
   }
 
-  private int getProperDivisorsSum(int number) {
-    return IntStream.rangeClosed(1, roundedSqrt(number))
-        .filter(i -> number % i == 0)
-        .flatMap(i -> i == 1 || i == number / i ? // Do not count number itself (if i == 0) and do not count a divisor twice (if i == number/i)
-            IntStream.of(i) :
-            IntStream.of(i, number / i))
-        .sum();
+  /*
+   * The partner of a number in the table can lie beyond it, only then factorize it on its own
+   */
+  private long getProperDivisorsSum(long number, DivisorSieve sieve) {
+    if (number <= sieve.getLimit()) {
+      return number < 1 ? 0 : sieve.properDivisorSum((int) number);
+    }
+
+    return factorizedInteger(number).sigma(1) - number;
   }
 }
@@ -2,11 +2,9 @@ package be.inniger.euler.problems21to30;
 
 import be.inniger.euler.Problem;
 
-import java.util.Set;
 import java.util.stream.IntStream;
 
-import static be.inniger.euler.util.Math.roundedSqrt;
-import static java.util.stream.Collectors.toUnmodifiableSet;
+import static be.inniger.euler.util.DivisorSieve.divisorSieve;
 
 /*
  * Non-abundant sums
@@ -22,27 +20,33 @@ public class Problem23 implements Problem {
 
   @Override
   public long solve() {
+    var sieve = divisorSieve(LIMIT);
+    var isAbundant = new boolean[LIMIT + 1];
+    IntStream.rangeClosed(1, LIMIT)
+        .filter(number -> sieve.properDivisorSum(number) > number)
+        .forEach(number -> isAbundant[number] = true);
     var abundantNumbers = IntStream.rangeClosed(1, LIMIT)
-        .filter(number -> getProperDivisorsSum(number) > number)
-        .boxed()
-        .collect(toUnmodifiableSet());
-    
-    return IntStream.rangeClosed(1, LIMIT)
-        .filter(number -> !isSumOfTwoAbundantNumbers(number, abundantNumbers))
-        .sum();
-  }
+        .filter(number -> isAbundant[number])
+        .toArray();
 
-  // TODO extract this one and the one from Problem21 into Math
-  private int getProperDivisorsSum(int number) {
-    return IntStream.rangeClosed(1, roundedSqrt(number))
-        .filter(i -> number % i == 0)
-        .flatMap(i -> i == 1 || i == number / i ? IntStream.of(i) : IntStream.of(i, number / i))
+    return IntStream.rangeClosed(1, LIMIT)
+        .filter(number -> !isSumOfTwoAbundantNumbers(number, abundantNumbers, isAbundant))
         .sum();
   }
 
-  // TODO improve speed here
-  private boolean isSumOfTwoAbundantNumbers(int number, Set<Integer> abundantNumbers) {
-    return abundantNumbers.stream()
-        .anyMatch(abundantNumber -> abundantNumbers.contains(number - abundantNumber));
+  /*
+   * Only the abundant numbers up until half of the number need to be tried, the other term is then looked up in O(1)
+   */
+  private boolean isSumOfTwoAbundantNumbers(int number, int[] abundantNumbers, boolean[] isAbundant) {
+    for (var abundantNumber : abundantNumbers) {
+      if (2 * abundantNumber > number) {
+        return false;
+      }
+      if (isAbundant[number - abundantNumber]) {
+        return true;
+      }
+    }
+
+    return false;
   }
 }
@@ -0,0 +1,68 @@
+package be.inniger.euler.util;
+
+import static java.lang.String.format;
+
+/*
+ * Modular arithmetic for one fixed modulus n <= 2^32 through Barrett reduction, on ordinary numbers in [0, n[.
+ * The product of two such numbers fits into an unsigned long x, and floor(x / n) is estimated as the high half of x * floor((2^64 - 1) / n).
+ * As 2^64 / n - floor((2^64 - 1) / n) <= 1 and x < 2^64, that estimate is at most 1 too small,
+ * so a multiplication, a subtraction and at most one correction replace the division.
+ * Details here: https://en.wikipedia.org/wiki/Barrett_reduction
+ */
+public final class Barrett implements ModularReducer {
+
+  // Any product of two numbers below 2^32 fits into an unsigned long
+  private static final long MAX_MODULUS = 1L << 32;
+
+  private final long modulus;
+  private final long factor;
+
+  private Barrett(long modulus) {
+    this.modulus = modulus;
+    this.factor = Long.divideUnsigned(-1L, modulus);
+  }
+
+  public static Barrett barrett(long modulus) {
+    if (modulus < 1 || modulus > MAX_MODULUS) {
+      throw new IllegalArgumentException(format("Barrett reduction needs a modulus in [1, %d], got %d", MAX_MODULUS, modulus));
+    }
+
+    return new Barrett(modulus);
+  }
+
+  @Override
+  public long getModulus() {
+    return modulus;
+  }
+
+  @Override
+  public long one() {
+    return modulus == 1 ? 0L : 1L;
+  }
+
+  @Override
+  public long toResidue(long number) {
+    return number >= 0 ? reduce(number) : Math.floorMod(number, modulus);
+  }
+
+  @Override
+  public long fromResidue(long residue) {
+    return residue;
+  }
+
+  /*
+   * a * b (mod n), for a and b in [0, n[
+   */
+  @Override
+  public long multiply(long a, long b) {
+    return reduce(a * b);
+  }
+
+  /*
+   * x (mod n), for x read as an unsigned long
+   */
+  public long reduce(long x) {
+    var remainder = x - Math.unsignedMultiplyHigh(x, factor) * modulus;
+    return remainder >= modulus ? remainder - modulus : remainder;
+  }
+}
@@ -0,0 +1,178 @@
+package be.inniger.euler.util;
+
+import static java.lang.String.format;
+
+/*
+ * Binomial coefficients C(n, k), the number of ways to pick k out of n elements.
+ *
+ * Exactly, every C(n, k) up until row 66 of Pascal's triangle fits into a long and is looked up in a cached triangle.
+ * Beyond that C(n, k) is built up multiplicatively as C(n - k + i, i) = C(n - k + i - 1, i - 1) * (n - k + i) / i,
+ * dividing out the gcd first so no intermediate value exceeds the result by more than a factor n.
+ *
+ * Modulo a prime, factorials and their inverses are tabulated once, making every C(n, k) three lookups.
+ * For n beyond the table Lucas' theorem multiplies C(n_i, k_i) for all base-p digits n_i and k_i of n and k.
+ * Details here: https://en.wikipedia.org/wiki/Lucas%27s_theorem
+ */
+public final class Binomial {
+
+  // C(67, 33) is the first binomial coefficient that no longer fits into a long
+  private static final int MAX_PASCAL_ROW = 66;
+  private static final long[][] PASCAL_TRIANGLE = pascalTriangle();
+
+  private Binomial() {
+    throw new IllegalStateException("Utility class constructor should never be called!");
+  }
+
+  /*
+   * Exact C(n, k), 0 if k lies outside of [0, n]. Throws ArithmeticException when it does not fit into a long.
+   */
+  public static long binomial(long n, long k) {
+    if (n < 0) {
+      throw new IllegalArgumentException(format("Cannot pick from a negative number of elements, got %d", n));
+    }
+
+    if (k < 0 || k > n) {
+      return 0L;
+    }
+    if (n <= MAX_PASCAL_ROW) {
+      return PASCAL_TRIANGLE[(int) n][(int) k];
+    }
+
+    var smallestK = Math.min(k, n - k);
+    var binomial = 1L;
+    for (var i = 1L; i <= smallestK; i++) {
+      // binomial * (n - k + i) is divisible by i, so (i / gcd) divides (n - k + i)
+      var gcd = Math.gcd(binomial, i);
+      binomial = Math.multiply(binomial / gcd, (n - smallestK + i) / (i / gcd));
+    }
+
+    return binomial;
+  }
+
+  /*
+   * Row n of Pascal's triangle, C(n, 0) up until C(n, n)
+   */
+  public static long[] pascalRow(int n) {
+    if (n < 0) {
+      throw new IllegalArgumentException(format("Pascal's triangle has no row %d", n));
+    }
+
+    if (n <= MAX_PASCAL_ROW) {
+      return PASCAL_TRIANGLE[n].clone();
+    }
+
+    var row = new long[n + 1];
+    for (var k = 0; k <= n / 2; k++) {
+      row[k] = binomial(n, k);
+      row[n - k] = row[k];
+    }
+
+    return row;
+  }
+
+  /*
+   * Table of C(n, k) modulo a prime, for every n up until upUntil and, through Lucas' theorem, for any n once the table covers p - 1
+   */
+  public static ModularTable modularTable(long prime, int upUntil) {
+    if (prime < 2 || !Primality.isProbablePrime(prime)) {
+      throw new IllegalArgumentException(format("Modulus has to be prime, got %d", prime));
+    }
+    if (upUntil < 0 || upUntil == Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(format("Table can go up until any number in [0, %d[, got %d", Integer.MAX_VALUE, upUntil));
+    }
+
+    // From p onwards every factorial is 0 (mod p), Lucas' theorem only ever needs the ones below p
+    var limit = (int) Math.min(upUntil, prime - 1);
+    var reducer = ModArith.reducer(prime);
+    var factorials = new long[limit + 1];
+    var inverseFactorials = new long[limit + 1];
+
+    // Both tables hold residues, so building them takes no division at all
+    var factor = reducer.one();
+    factorials[0] = reducer.one();
+    for (var n = 1; n <= limit; n++) {
+      factorials[n] = reducer.multiply(factorials[n - 1], factor);
+      factor = reducer.add(factor, reducer.one());
+    }
+    inverseFactorials[limit] = reducer.toResidue(ModArith.inverse(reducer.fromResidue(factorials[limit]), prime));
+    for (var n = limit; n > 0; n--) {
+      factor = reducer.subtract(factor, reducer.one());
+      inverseFactorials[n - 1] = reducer.multiply(inverseFactorials[n], factor);
+    }
+
+    return new ModularTable(prime, limit, reducer, factorials, inverseFactorials);
+  }
+
+  private static long[][] pascalTriangle() {
+    var triangle = new long[MAX_PASCAL_ROW + 1][];
+    for (var n = 0; n <= MAX_PASCAL_ROW; n++) {
+      triangle[n] = new long[n + 1];
+      triangle[n][0] = 1L;
+      triangle[n][n] = 1L;
+      for (var k = 1; k < n; k++) {
+        triangle[n][k] = triangle[n - 1][k - 1] + triangle[n - 1][k];
+      }
+    }
+
+    return triangle;
+  }
+
+  public static final class ModularTable {
+
+    private final long prime;
+    private final int limit;
+    private final ModularReducer reducer;
+    private final long[] factorials;
+    private final long[] inverseFactorials;
+
+    private ModularTable(long prime, int limit, ModularReducer reducer, long[] factorials, long[] inverseFactorials) {
+      this.prime = prime;
+      this.limit = limit;
+      this.reducer = reducer;
+      this.factorials = factorials;
+      this.inverseFactorials = inverseFactorials;
+    }
+
+    public long getPrime() {
+      return prime;
+    }
+
+    /*
+     * C(n, k) (mod p), 0 if k lies outside of [0, n]
+     */
+    public long binomial(long n, long k) {
+      if (n < 0) {
+        throw new IllegalArgumentException(format("Cannot pick from a negative number of elements, got %d", n));
+      }
+
+      if (k < 0 || k > n) {
+        return 0L;
+      }
+      if (n <= limit) {
+        return reducer.fromResidue(lookUp((int) n, (int) k));
+      }
+      if (limit < prime - 1) {
+        throw new IllegalArgumentException(format("Table only goes up until %d, and too small for Lucas' theorem modulo %d", limit, prime));
+      }
+
+      var binomial = reducer.one();
+      for (long m = n, j = k; m != 0; m /= prime, j /= prime) {
+        var nDigit = (int) (m % prime);
+        var kDigit = (int) (j % prime);
+        if (kDigit > nDigit) {
+          return 0L;
+        }
+        binomial = reducer.multiply(binomial, lookUp(nDigit, kDigit));
+      }
+
+      return reducer.fromResidue(binomial);
+    }
+
+    /*
+     * C(n, k) as a residue of the reducer
+     */
+    private long lookUp(int n, int k) {
+      return reducer.multiply(factorials[n], reducer.multiply(inverseFactorials[k], inverseFactorials[n - k]));
+    }
+  }
+}
@@ -4,6 +4,7 @@ import be.inniger.euler.Problem;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.Collection;
 import java.util.List;
@@ -24,7 +25,7 @@ public final class CollectionUtil {
   }
 
   public static <R> R readProblemDataAndTransform(Problem problem, ProblemTransformer<R> transformer) {
-    try (var is = Thread.currentThread().getContextClassLoader().getResourceAsStream("problems/" + problem.getClass().getSimpleName() + ".txt");
+    try (var is = openProblemData(problem);
          var isr = new InputStreamReader(is);
          var br = new BufferedReader(isr)) {
       var lines = br.lines() // Results in Stream<String>, 1 String per line in the file
@@ -35,6 +36,17 @@ public final class CollectionUtil {
     }
   }
 
+  /*
+   * Hands the raw bytes of the problem data over, for data too big to go through one String per line
+   */
+  public static <R> R readProblemDataBytesAndTransform(Problem problem, ProblemBytesTransformer<R> transformer) {
+    try (var is = openProblemData(problem)) {
+      return transformer.transform(is);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   public static <T> T getSingleElement(Collection<T> collection) {
     if (collection == null || collection.size() != 1) {
       throw new IllegalArgumentException("Collection did not have size 1!");
@@ -53,8 +65,17 @@ public final class CollectionUtil {
     return list.size() - 1;
   }
 
+  private static InputStream openProblemData(Problem problem) {
+    return Thread.currentThread().getContextClassLoader().getResourceAsStream("problems/" + problem.getClass().getSimpleName() + ".txt");
+  }
+
   @FunctionalInterface
   public interface ProblemTransformer<R> {
     R transform(Stream<String> lines);
   }
+
+  @FunctionalInterface
+  public interface ProblemBytesTransformer<R> {
+    R transform(InputStream bytes) throws IOException;
+  }
 }
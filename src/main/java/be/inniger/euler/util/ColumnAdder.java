@@ -0,0 +1,172 @@
+package be.inniger.euler.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/*
+ * Sum of (arbitrarily many) big non-negative decimal numbers, read straight from their digits without creating a BigInteger per number.
+ * Every number is added into base 10^9 column accumulators, least significant column first, without carrying:
+ * a column only grows by less than 10^9 per number, so carrying is needed just once at the end, or every few billion numbers.
+ * Memory depends on the length of the longest number only, not on how many numbers there are.
+ */
+public final class ColumnAdder {
+
+  private static final int DIGITS_PER_COLUMN = 9;
+  private static final int COLUMN_BASE = 1_000_000_000;
+  // Numbers that can be added between two carries, leaving room for the carries themselves
+  private static final long MAX_PENDING_NUMBERS = Long.MAX_VALUE / COLUMN_BASE - 10;
+  private static final int BUFFER_SIZE = 1 << 13;
+
+  private long[] columns = new long[1];
+  // Digit values of the number being read, most significant first, as the number of columns it spans is only known at its end
+  private byte[] digits = new byte[64];
+  private int nrDigits;
+  private long nrNumbers;
+  private long nrPendingNumbers;
+
+  private ColumnAdder() {
+  }
+
+  public static ColumnAdder columnAdder() {
+    return new ColumnAdder();
+  }
+
+  public ColumnAdder add(CharSequence number) {
+    if (number.length() == 0) {
+      throw new IllegalArgumentException("Cannot add an empty number");
+    }
+
+    for (var i = 0; i < number.length(); i++) {
+      var character = number.charAt(i);
+      if (character < '0' || character > '9') {
+        throw new IllegalArgumentException(format("Number %s contains the non-digit '%c'", number, character));
+      }
+      appendDigit(character - '0');
+    }
+    endNumber();
+
+    return this;
+  }
+
+  /*
+   * Adds every number in the input, numbers are separated by whitespace (typically one per line)
+   */
+  public ColumnAdder addAll(InputStream input) throws IOException {
+    var buffer = new byte[BUFFER_SIZE];
+    for (var nrBytes = input.read(buffer); nrBytes != -1; nrBytes = input.read(buffer)) {
+      for (var i = 0; i < nrBytes; i++) {
+        var character = buffer[i];
+        if (character >= '0' && character <= '9') {
+          appendDigit(character - '0');
+        } else if (Character.isWhitespace(character)) {
+          if (nrDigits > 0) {
+            endNumber();
+          }
+        } else {
+          throw new IllegalArgumentException(format("Input contains the non-digit '%c' after %d numbers", (char) character, nrNumbers));
+        }
+      }
+    }
+    if (nrDigits > 0) {
+      endNumber();
+    }
+
+    return this;
+  }
+
+  /*
+   * Count of the numbers added so far
+   */
+  public long getCount() {
+    return nrNumbers;
+  }
+
+  public BigInteger sum() {
+    return new BigInteger(leadingDigits(Integer.MAX_VALUE));
+  }
+
+  /*
+   * The first n decimal digits of the sum (all of them if it is shorter), only formatting the most significant columns
+   */
+  public String leadingDigits(int n) {
+    if (!Math.isPositive(n)) {
+      throw new IllegalArgumentException(format("Number of digits has to be strictly positive, got %d", n));
+    }
+    carry();
+
+    var mostSignificant = columns.length - 1;
+    while (mostSignificant > 0 && columns[mostSignificant] == 0) {
+      mostSignificant--;
+    }
+
+    var leadingDigits = new StringBuilder(Long.toString(columns[mostSignificant]));
+    for (var column = mostSignificant - 1; column >= 0 && leadingDigits.length() < n; column--) {
+      var columnDigits = Long.toString(columns[column]);
+      leadingDigits.append("0".repeat(DIGITS_PER_COLUMN - columnDigits.length())).append(columnDigits);
+    }
+    leadingDigits.setLength(Math.min(n, leadingDigits.length()));
+
+    return leadingDigits.toString();
+  }
+
+  private void appendDigit(int digit) {
+    if (nrDigits == digits.length) {
+      digits = Arrays.copyOf(digits, 2 * digits.length);
+    }
+    digits[nrDigits++] = (byte) digit;
+  }
+
+  /*
+   * Adds the number read so far into the columns, 9 digits at a time starting from its last digit
+   */
+  private void endNumber() {
+    // Leading zeros would only widen the columns
+    var first = 0;
+    while (first < nrDigits - 1 && digits[first] == 0) {
+      first++;
+    }
+
+    var nrColumns = (nrDigits - first + DIGITS_PER_COLUMN - 1) / DIGITS_PER_COLUMN;
+    if (nrColumns > columns.length) {
+      columns = Arrays.copyOf(columns, nrColumns);
+    }
+    if (nrPendingNumbers == MAX_PENDING_NUMBERS) {
+      carry();
+    }
+
+    for (int column = 0, end = nrDigits; end > first; column++, end -= DIGITS_PER_COLUMN) {
+      var value = 0;
+      for (var i = Math.max(first, end - DIGITS_PER_COLUMN); i < end; i++) {
+        value = 10 * value + digits[i];
+      }
+      columns[column] += value;
+    }
+
+    nrDigits = 0;
+    nrNumbers++;
+    nrPendingNumbers++;
+  }
+
+  /*
+   * Brings every column back below 10^9, adding columns as the carry runs past the most significant one
+   */
+  private void carry() {
+    var carry = 0L;
+    for (var column = 0; column < columns.length; column++) {
+      var total = columns[column] + carry;
+      columns[column] = total % COLUMN_BASE;
+      carry = total / COLUMN_BASE;
+    }
+    while (carry != 0) {
+      columns = Arrays.copyOf(columns, columns.length + 1);
+      columns[columns.length - 1] = carry % COLUMN_BASE;
+      carry /= COLUMN_BASE;
+    }
+
+    nrPendingNumbers = 0;
+  }
+}
@@ -0,0 +1,214 @@
+package be.inniger.euler.util;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/*
+ * Decimal digits of (arbitrarily big) integers, without ever building their String representation.
+ *
+ * A BigInteger is split into limbs of 18 decimal digits, each one fitting into a long, by dividing it by 10^(18 * 2^k):
+ * the quotient and remainder are both below that power and get split further by 10^(18 * 2^(k - 1)), and so on.
+ * These balanced divisions let BigInteger use its Burnikel-Ziegler division, and the limbs are then plain longs.
+ * The smaller powers of ten are cached, as they are the same for every number.
+ */
+public final class Digits {
+
+  private static final int DIGITS_PER_LIMB = 18;
+  private static final long LIMB_BASE = 1_000_000_000_000_000_000L;
+  private static final long HALF_LIMB_BASE = 1_000_000_000L;
+  // From 2^4 limbs downwards, dividing the words of the number by 10^9 one at a time beats any further BigInteger division
+  private static final int LEAF_LEVEL = 3;
+
+  // 10^(18 * 2^15) takes about 240 KB, so the whole cache stays below 0.5 MB. Bigger powers are squared again for every number.
+  private static final int MAX_CACHED_LEVELS = 16;
+
+  // powers[k] is 10^(18 * 2^k), only ever grown by appending the square of the last power
+  private static volatile BigInteger[] powers = {BigInteger.valueOf(LIMB_BASE)};
+
+  private Digits() {
+    throw new IllegalStateException("Utility class constructor should never be called!");
+  }
+
+  /*
+   * Base 10^18 limbs of the absolute value, least significant limb first. The most significant limbs can be 0.
+   */
+  public static long[] limbs(BigInteger number) {
+    var absValue = number.abs();
+    var powers = splittingPowers(absValue);
+    var level = powers.length - 1;
+
+    var limbs = new long[1 << (level + 1)];
+    split(absValue, powers, level, limbs, 0);
+    return limbs;
+  }
+
+  public static long digitSum(BigInteger number) {
+    var digitSum = 0L;
+    for (var limb : limbs(number)) {
+      digitSum += digitSum(limb);
+    }
+
+    return digitSum;
+  }
+
+  /*
+   * Number of decimal digits of the absolute value, 0 having 1 digit
+   */
+  public static long digitCount(BigInteger number) {
+    var limbs = limbs(number);
+    var mostSignificant = limbs.length - 1;
+    while (mostSignificant > 0 && limbs[mostSignificant] == 0) {
+      mostSignificant--;
+    }
+
+    return (long) DIGITS_PER_LIMB * mostSignificant + digitCount(limbs[mostSignificant]);
+  }
+
+  /*
+   * How often every decimal digit occurs in the absolute value, indexed by the digit
+   */
+  public static long[] digitHistogram(BigInteger number) {
+    var limbs = limbs(number);
+    var mostSignificant = limbs.length - 1;
+    while (mostSignificant > 0 && limbs[mostSignificant] == 0) {
+      mostSignificant--;
+    }
+
+    var histogram = new long[10];
+    for (var i = 0; i < mostSignificant; i++) {
+      // Every limb below the most significant one has all of its 18 digits, leading zeros included
+      var limb = limbs[i];
+      for (var digit = 0; digit < DIGITS_PER_LIMB; digit++, limb /= 10) {
+        histogram[(int) (limb % 10)]++;
+      }
+    }
+    var limb = limbs[mostSignificant];
+    do {
+      histogram[(int) (limb % 10)]++;
+      limb /= 10;
+    } while (limb != 0);
+
+    return histogram;
+  }
+
+  /*
+   * The powers 10^(18 * 2^k) for k in [0, level], where dividing by the last one splits the number into 2^(level + 1) limbs.
+   * A power P does so for any number below 2^(2b - 2) <= P^2, with b the bit length of P. Empty for numbers below 10^18.
+   */
+  private static BigInteger[] splittingPowers(BigInteger number) {
+    if (number.compareTo(power(0)) < 0) {
+      return new BigInteger[0];
+    }
+
+    var splittingPowers = new BigInteger[]{power(0)};
+    while (number.bitLength() > 2 * splittingPowers[splittingPowers.length - 1].bitLength() - 2) {
+      var level = splittingPowers.length;
+      var last = splittingPowers[level - 1];
+      splittingPowers = Arrays.copyOf(splittingPowers, level + 1);
+      splittingPowers[level] = level < MAX_CACHED_LEVELS ? power(level) : last.multiply(last);
+    }
+
+    return splittingPowers;
+  }
+
+  private static void split(BigInteger number, BigInteger[] powers, int level, long[] limbs, int offset) {
+    if (level < LEAF_LEVEL) {
+      splitLeaf(number, limbs, offset, 1 << (level + 1));
+      return;
+    }
+
+    var quotientAndRemainder = number.divideAndRemainder(powers[level]);
+    split(quotientAndRemainder[1], powers, level - 1, limbs, offset);
+    split(quotientAndRemainder[0], powers, level - 1, limbs, offset + (1 << level));
+  }
+
+  /*
+   * Schoolbook division of the 32-bit words of a small number by 10^9, two remainders make up one limb
+   */
+  private static void splitLeaf(BigInteger number, long[] limbs, int offset, int nrLimbs) {
+    if (number.bitLength() < Long.SIZE - 1) {
+      var value = number.longValue();
+      for (var i = 0; i < nrLimbs && value != 0; i++, value /= LIMB_BASE) {
+        limbs[offset + i] = value % LIMB_BASE;
+      }
+      return;
+    }
+
+    var words = words(number);
+    var nrWords = words.length;
+    for (var i = 0; i < nrLimbs && nrWords > 0; i++) {
+      var low = divide(words, nrWords);
+      while (nrWords > 0 && words[nrWords - 1] == 0) {
+        nrWords--;
+      }
+      var high = divide(words, nrWords);
+      while (nrWords > 0 && words[nrWords - 1] == 0) {
+        nrWords--;
+      }
+      limbs[offset + i] = high * HALF_LIMB_BASE + low;
+    }
+  }
+
+  /*
+   * Divides the number made up of the given words (least significant first) by 10^9 in place, returns the remainder
+   */
+  private static long divide(int[] words, int nrWords) {
+    var remainder = 0L;
+    for (var i = nrWords - 1; i >= 0; i--) {
+      var dividend = remainder << Integer.SIZE | Integer.toUnsignedLong(words[i]);
+      words[i] = (int) (dividend / HALF_LIMB_BASE);
+      remainder = dividend % HALF_LIMB_BASE;
+    }
+
+    return remainder;
+  }
+
+  /*
+   * 32-bit words of a non-negative number, least significant first
+   */
+  private static int[] words(BigInteger number) {
+    var words = new int[(number.bitLength() + Integer.SIZE - 1) / Integer.SIZE];
+    for (var i = 0; i < words.length; i++) {
+      words[i] = number.shiftRight(Integer.SIZE * i).intValue();
+    }
+
+    return words;
+  }
+
+  private static BigInteger power(int level) {
+    var current = powers;
+    if (level < current.length) {
+      return current[level];
+    }
+
+    synchronized (Digits.class) {
+      current = powers;
+      while (level >= current.length) {
+        var last = current[current.length - 1];
+        current = Arrays.copyOf(current, current.length + 1);
+        current[current.length - 1] = last.multiply(last);
+      }
+      powers = current;
+
+      return current[level];
+    }
+  }
+
+  private static int digitSum(long number) {
+    var digitSum = 0;
+    for (var n = number; n != 0; n /= 10) {
+      digitSum += n % 10;
+    }
+
+    return digitSum;
+  }
+
+  private static int digitCount(long number) {
+    var digitCount = 1;
+    for (var n = number / 10; n != 0; n /= 10) {
+      digitCount++;
+    }
+
+    return digitCount;
+  }
+}
@@ -0,0 +1,141 @@
+package be.inniger.euler.util;
+
+import static java.lang.String.format;
+
+/*
+ * Tables of the divisor functions of every number up until (and including) a given limit:
+ * the number of divisors d(n), the sum of divisors sigma(n) and the sum of proper divisors s(n) = sigma(n) - n.
+ * E.g. d(12) = 6, sigma(12) = 1 + 2 + 3 + 4 + 6 + 12 = 28 and s(12) = 16.
+ *
+ * Both functions are multiplicative, so every number in a segment gets its factor "p^e" divided out for each base prime p,
+ * multiplying d(n) by "e + 1" and sigma(n) by "1 + p + ... + p^e". What remains afterwards is either 1 or one prime beyond sqrt(N).
+ * Both tables are filled in that same pass, which takes O(N log(log(N))) just like the Sieve of Eratosthenes,
+ * and segments can be sieved concurrently.
+ */
+public final class DivisorSieve {
+
+  // Numbers per segment, so the remaining cofactors of the segment being sieved stay in the L1 cache
+  private static final int SEGMENT_SIZE = 1 << 13;
+
+  private final int limit;
+  private final int[] divisorCounts;
+  private final long[] divisorSums;
+
+  private DivisorSieve(int limit, int[] divisorCounts, long[] divisorSums) {
+    this.limit = limit;
+    this.divisorCounts = divisorCounts;
+    this.divisorSums = divisorSums;
+  }
+
+  public static DivisorSieve divisorSieve(int upUntil) {
+    validate(upUntil);
+
+    var divisorCounts = new int[upUntil + 1];
+    var divisorSums = new long[upUntil + 1];
+    var basePrimes = basePrimes(upUntil);
+
+    for (var from = 1L; from <= upUntil; from += SEGMENT_SIZE) {
+      sieveSegment(divisorCounts, divisorSums, basePrimes, (int) from, (int) Math.min(from + SEGMENT_SIZE - 1, upUntil));
+    }
+
+    return new DivisorSieve(upUntil, divisorCounts, divisorSums);
+  }
+
+  /*
+   * Sieves the segments concurrently on a ForkJoinPool, every segment only writes its own part of the tables
+   */
+  public static DivisorSieve divisorSieve(int upUntil, int parallelism) {
+    validate(upUntil);
+
+    var divisorCounts = new int[upUntil + 1];
+    var divisorSums = new long[upUntil + 1];
+    var basePrimes = basePrimes(upUntil);
+    var nrSegments = (int) (((long) upUntil + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+
+    ParallelSegments.forEachSegment(nrSegments, parallelism, segment -> {
+      var from = 1 + segment * SEGMENT_SIZE;
+      sieveSegment(divisorCounts, divisorSums, basePrimes, from, (int) Math.min((long) from + SEGMENT_SIZE - 1, upUntil));
+    });
+
+    return new DivisorSieve(upUntil, divisorCounts, divisorSums);
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public int divisorCount(int number) {
+    requireInTable(number);
+    return divisorCounts[number];
+  }
+
+  public long divisorSum(int number) {
+    requireInTable(number);
+    return divisorSums[number];
+  }
+
+  public long properDivisorSum(int number) {
+    requireInTable(number);
+    return divisorSums[number] - number;
+  }
+
+  private void requireInTable(int number) {
+    if (number < 1 || number > limit) {
+      throw new IllegalArgumentException(format("Number %d lies outside of the table, which covers [1, %d]", number, limit));
+    }
+  }
+
+  private static void validate(int upUntil) {
+    if (upUntil < 1 || upUntil == Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(format("Divisor tables can go up until any number in [1, %d[, got %d", Integer.MAX_VALUE, upUntil));
+    }
+  }
+
+  private static int[] basePrimes(int upUntil) {
+    var root = Math.isqrt(upUntil);
+    return root < 2 ? new int[0] : PrimeTable.primeTable(root).toArray();
+  }
+
+  /*
+   * Fills both tables for all numbers in [from, upUntil]
+   */
+  private static void sieveSegment(int[] divisorCounts, long[] divisorSums, int[] basePrimes, int from, int upUntil) {
+    var remaining = new int[upUntil - from + 1];
+    for (var n = from; n <= upUntil; n++) {
+      remaining[n - from] = n;
+      divisorCounts[n] = 1;
+      divisorSums[n] = 1L;
+    }
+
+    for (var prime : basePrimes) {
+      if ((long) prime * prime > upUntil) {
+        break;
+      }
+
+      for (var n = ((long) from + prime - 1) / prime * prime; n <= upUntil; n += prime) {
+        var index = (int) (n - from);
+        var exponent = 0;
+        var primePower = 1L;
+        var sumOfPrimePowers = 1L;
+        do {
+          remaining[index] /= prime;
+          exponent++;
+          primePower *= prime;
+          sumOfPrimePowers += primePower;
+        } while (remaining[index] % prime == 0);
+
+        divisorCounts[(int) n] *= exponent + 1;
+        divisorSums[(int) n] *= sumOfPrimePowers;
+      }
+    }
+
+    // At most one prime factor is bigger than sqrt(n), and it occurs only once
+    for (var n = from; n <= upUntil; n++) {
+      var prime = remaining[n - from];
+      if (prime > 1) {
+        divisorCounts[n] *= 2;
+        divisorSums[n] *= prime + 1L;
+      }
+    }
+  }
+}
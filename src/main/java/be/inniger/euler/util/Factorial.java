@@ -0,0 +1,132 @@
+package be.inniger.euler.util;
+
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/*
+ * Factorials through their prime factorization, n! = 2^e(2) * 3^e(3) * ... with e(p) the sum of floor(n / p^i) (Legendre's formula).
+ * Every odd prime contributes "p^e(p)", so n! / 2^e(2) is built from its highest exponent bit downwards:
+ * square what was built so far and multiply in the product of all primes having that bit set in their exponent.
+ * These products are multiplied as balanced binary trees, so BigInteger multiplies numbers of similar size,
+ * which is where its Karatsuba and Toom-Cook algorithms kick in. The power of 2 is a single shift at the end.
+ * Details here: http://www.luschny.de/math/factorial/FastFactorialFunctions.htm
+ *
+ * The most recently used factorials are cached, so repeatedly asking for the same small factorials is free.
+ */
+final class Factorial {
+
+  // Every factorial up until 20! fits into a long
+  private static final long[] SMALL_FACTORIALS = smallFactorials();
+  // Below this many numbers, a plain running product beats splitting any further
+  private static final int LEAF_SIZE = 16;
+
+  private Factorial() {
+    throw new IllegalStateException("Utility class constructor should never be called!");
+  }
+
+  static BigInteger factorial(int number) {
+    if (number < 0) {
+      throw new IllegalArgumentException(format("Cannot calculate the factorial of a negative number: %d", number));
+    }
+
+    if (number < SMALL_FACTORIALS.length) {
+      return BigInteger.valueOf(SMALL_FACTORIALS[number]);
+    }
+
+    return FactorialCache.INSTANCE.computeIfAbsent(number);
+  }
+
+  private static BigInteger compute(int number) {
+    var primes = PrimeTable.primeTable(number).toArray();
+    var exponents = new int[primes.length];
+    for (var i = 0; i < primes.length; i++) {
+      for (long primePower = primes[i]; primePower <= number; primePower *= primes[i]) {
+        exponents[i] += (int) (number / primePower);
+      }
+    }
+
+    // Exponents only decrease as the primes grow, so 3 has the highest exponent of all odd primes
+    var oddPart = BigInteger.ONE;
+    var primesWithBit = new int[primes.length];
+    for (var bit = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(exponents[1]); bit >= 0; bit--) {
+      var nrPrimesWithBit = 0;
+      for (var i = 1; i < primes.length; i++) {
+        if ((exponents[i] >>> bit & 1) != 0) {
+          primesWithBit[nrPrimesWithBit++] = primes[i];
+        }
+      }
+
+      oddPart = oddPart.multiply(oddPart).multiply(product(primesWithBit, 0, nrPrimesWithBit));
+    }
+
+    return oddPart.shiftLeft(exponents[0]);
+  }
+
+  /*
+   * Product of numbers[from, to[, split in halves so both sides of every multiplication have about the same size
+   */
+  private static BigInteger product(int[] numbers, int from, int to) {
+    if (to - from <= LEAF_SIZE) {
+      var product = BigInteger.ONE;
+      for (var i = from; i < to; i++) {
+        product = product.multiply(BigInteger.valueOf(numbers[i]));
+      }
+      return product;
+    }
+
+    var middle = (from + to) >>> 1;
+    return product(numbers, from, middle).multiply(product(numbers, middle, to));
+  }
+
+  private static long[] smallFactorials() {
+    var factorials = new long[21];
+    factorials[0] = 1L;
+    for (var i = 1; i < factorials.length; i++) {
+      factorials[i] = factorials[i - 1] * i;
+    }
+
+    return factorials;
+  }
+
+  /*
+   * Bounded cache of the most recently used factorials, only factorials of moderate size are kept
+   */
+  private enum FactorialCache {
+
+    INSTANCE;
+
+    private static final int MAX_NR_ENTRIES = 64;
+    private static final int MAX_CACHED_NUMBER = 1 << 14;
+
+    private final Map<Integer, BigInteger> factorials = new LinkedHashMap<>(MAX_NR_ENTRIES, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Integer, BigInteger> eldest) {
+        return size() > MAX_NR_ENTRIES;
+      }
+    };
+
+    private BigInteger computeIfAbsent(int number) {
+      if (number > MAX_CACHED_NUMBER) {
+        return compute(number);
+      }
+
+      synchronized (factorials) {
+        var factorial = factorials.get(number);
+        if (factorial != null) {
+          return factorial;
+        }
+      }
+
+      // Computed outside of the lock, at worst two threads compute the same factorial
+      var factorial = compute(number);
+      synchronized (factorials) {
+        factorials.put(number, factorial);
+      }
+
+      return factorial;
+    }
+  }
+}
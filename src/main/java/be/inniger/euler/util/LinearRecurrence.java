@@ -0,0 +1,205 @@
+package be.inniger.euler.util;
+
+import java.math.BigInteger;
+
+import static java.lang.String.format;
+
+/*
+ * Terms of linear recurrences a(n) = c_1 * a(n - 1) + ... + c_k * a(n - k) in O(log(n)) steps rather than O(n).
+ *
+ * Fibonacci numbers go through fast doubling: F(2m) = F(m) * (2 * F(m + 1) - F(m)) and F(2m + 1) = F(m)^2 + F(m + 1)^2,
+ * reading the bits of n from the most significant one down.
+ * Details here: https://www.nayuki.io/page/fast-fibonacci-algorithms
+ *
+ * Any other recurrence raises its k x k companion matrix to the n-th power by squaring, in O(k^3 * log(n)) modular multiplications.
+ */
+public final class LinearRecurrence {
+
+  private LinearRecurrence() {
+    throw new IllegalStateException("Utility class constructor should never be called!");
+  }
+
+  /*
+   * Exact F(n), with F(0) = 0 and F(1) = 1
+   */
+  public static BigInteger fibonacci(int n) {
+    requireNonNegative(n);
+
+    var current = BigInteger.ZERO; // F(m)
+    var next = BigInteger.ONE; // F(m + 1)
+    for (var bit = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(n); bit >= 0; bit--) {
+      var doubled = current.multiply(next.shiftLeft(1).subtract(current));
+      var doubledNext = current.multiply(current).add(next.multiply(next));
+      if ((n >>> bit & 1) == 0) {
+        current = doubled;
+        next = doubledNext;
+      } else {
+        current = doubledNext;
+        next = doubled.add(doubledNext);
+      }
+    }
+
+    return current;
+  }
+
+  /*
+   * F(n) (mod modulus), for any non-negative n
+   */
+  public static long fibonacci(long n, long modulus) {
+    requireNonNegative(n);
+    var reducer = ModArith.reducer(modulus);
+
+    var current = 0L;
+    var next = reducer.one();
+    for (var bit = Long.SIZE - 1 - Long.numberOfLeadingZeros(n); bit >= 0; bit--) {
+      var doubled = reducer.multiply(current, reducer.subtract(reducer.add(next, next), current));
+      var doubledNext = reducer.add(reducer.square(current), reducer.square(next));
+      if ((n >>> bit & 1) == 0) {
+        current = doubled;
+        next = doubledNext;
+      } else {
+        current = doubledNext;
+        next = reducer.add(doubled, doubledNext);
+      }
+    }
+
+    return reducer.fromResidue(current);
+  }
+
+  /*
+   * Sum of all even Fibonacci numbers up until (and including) the limit.
+   * Only every third Fibonacci number is even, and these E(n) = F(3n) follow E(n) = 4 * E(n - 1) + E(n - 2) themselves.
+   * They grow by a factor of about 4.24 per term, so only O(log(limit)) of them are ever visited.
+   */
+  public static long evenFibonacciSum(long limit) {
+    var sum = 0L;
+    var previous = 0L; // E(0)
+    var current = 2L; // E(1)
+    while (current <= limit) {
+      sum = java.lang.Math.addExact(sum, current);
+      if (current > (limit - previous) / 4) {
+        break; // The next term would exceed the limit, if not even a long
+      }
+
+      var next = 4 * current + previous;
+      previous = current;
+      current = next;
+    }
+
+    return sum;
+  }
+
+  /*
+   * E(1) + ... + E(n) (mod modulus), the sum of the first n even Fibonacci numbers 2, 8, 34, 144, ...
+   * Each step maps (E(m + 1), E(m), S(m)) onto (4 * E(m + 1) + E(m), E(m + 1), S(m) + E(m + 1)), a 3 x 3 matrix.
+   */
+  public static long evenFibonacciSum(long n, long modulus) {
+    requireNonNegative(n);
+
+    var step = new long[][]{
+        {4, 1, 0},
+        {1, 0, 0},
+        {1, 0, 1}};
+    var power = matrixPower(step, n, modulus);
+
+    // Starting from (E(1), E(0), S(0)) = (2, 0, 0)
+    return Math.mulMod(power[2][0], 2, modulus);
+  }
+
+  /*
+   * a(n) (mod modulus) for a(m) = coefficients[0] * a(m - 1) + ... + coefficients[k - 1] * a(m - k),
+   * given the k initial terms a(0), ..., a(k - 1)
+   */
+  public static long nthTerm(long[] coefficients, long[] initialTerms, long n, long modulus) {
+    var k = coefficients.length;
+    if (k == 0 || initialTerms.length != k) {
+      throw new IllegalArgumentException(format("A recurrence of order %d needs as many initial terms, got %d", k, initialTerms.length));
+    }
+    requireNonNegative(n);
+
+    if (n < k) {
+      return Math.floorMod(initialTerms[(int) n], modulus);
+    }
+
+    // Companion matrix, mapping (a(m + k - 1), ..., a(m)) onto (a(m + k), ..., a(m + 1))
+    var companion = new long[k][k];
+    companion[0] = coefficients.clone();
+    for (var i = 1; i < k; i++) {
+      companion[i][i - 1] = 1L;
+    }
+    var power = matrixPower(companion, n - k + 1, modulus);
+
+    // The top row applied to (a(k - 1), ..., a(0)) gives a(n)
+    var reducer = ModArith.reducer(modulus);
+    var term = 0L;
+    for (var j = 0; j < k; j++) {
+      term = reducer.add(term, reducer.multiply(reducer.toResidue(power[0][j]), reducer.toResidue(initialTerms[k - 1 - j])));
+    }
+
+    return reducer.fromResidue(term);
+  }
+
+  /*
+   * matrix^exponent (mod modulus) for a square matrix, through exponentiation by squaring
+   */
+  public static long[][] matrixPower(long[][] matrix, long exponent, long modulus) {
+    var k = matrix.length;
+    for (var row : matrix) {
+      if (row.length != k) {
+        throw new IllegalArgumentException(format("Only square matrices can be raised to a power, got a row of %d in a %d x %d matrix", row.length, k, k));
+      }
+    }
+    requireNonNegative(exponent);
+
+    // Every multiplication happens on residues, only the result gets converted back
+    var reducer = ModArith.reducer(modulus);
+    var base = new long[k][k];
+    var result = new long[k][k];
+    for (var i = 0; i < k; i++) {
+      for (var j = 0; j < k; j++) {
+        base[i][j] = reducer.toResidue(matrix[i][j]);
+      }
+      result[i][i] = reducer.one();
+    }
+
+    for (var e = exponent; e != 0; e >>>= 1) {
+      if ((e & 1) != 0) {
+        result = multiply(result, base, reducer);
+      }
+      if (e > 1) {
+        base = multiply(base, base, reducer);
+      }
+    }
+
+    for (var row : result) {
+      for (var j = 0; j < k; j++) {
+        row[j] = reducer.fromResidue(row[j]);
+      }
+    }
+
+    return result;
+  }
+
+  private static long[][] multiply(long[][] a, long[][] b, ModularReducer reducer) {
+    var k = a.length;
+    var product = new long[k][k];
+    for (var i = 0; i < k; i++) {
+      for (var l = 0; l < k; l++) {
+        if (a[i][l] == 0) {
+          continue;
+        }
+        for (var j = 0; j < k; j++) {
+          product[i][j] = reducer.add(product[i][j], reducer.multiply(a[i][l], b[l][j]));
+        }
+      }
+    }
+
+    return product;
+  }
+
+  private static void requireNonNegative(long n) {
+    if (Math.isNegative(n)) {
+      throw new IllegalArgumentException(format("Index has to be non-negative, got %d", n));
+    }
+  }
+}
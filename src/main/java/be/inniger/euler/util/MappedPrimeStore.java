@@ -0,0 +1,159 @@
+package be.inniger.euler.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32C;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/*
+ * Persistent store of the first N primes, written to disk once and memory-mapped on every later run.
+ * Later runs hence skip sieving altogether, and all processes mapping the same file share one page-cached copy.
+ *
+ * File layout (big-endian):
+ * - magic number (int), format version (int), number of primes (int), padding (int)
+ * - CRC-32C checksum of the primes (long)
+ * - the primes themselves, in ascending order (int each)
+ */
+public final class MappedPrimeStore {
+
+  private static final int MAGIC = 0x5052_494D; // "PRIM"
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 24;
+  private static final int CHECKSUM_OFFSET = 16;
+  // pi(Integer.MAX_VALUE), every one of these primes still fits into an int
+  private static final int MAX_NR_PRIMES = 105_097_565;
+
+  private final MappedByteBuffer primes;
+  private final int size;
+
+  private MappedPrimeStore(MappedByteBuffer primes, int size) {
+    this.primes = primes;
+    this.size = size;
+  }
+
+  /*
+   * Maps the store at the given path, (re)writing it first if it is missing, corrupt or holds fewer than nrPrimes primes.
+   * Only the header and file size are checked, the checksum is verified once right after writing the store.
+   */
+  public static MappedPrimeStore open(Path file, int nrPrimes) {
+    return open(file, nrPrimes, false);
+  }
+
+  /*
+   * Same as open(file, nrPrimes), but when verifyChecksum is set an existing store is also rewritten when its primes
+   * no longer match their CRC-32C checksum, which costs a pass over the whole file
+   */
+  public static MappedPrimeStore open(Path file, int nrPrimes, boolean verifyChecksum) {
+    if (!Math.isPositive(nrPrimes) || nrPrimes > MAX_NR_PRIMES) {
+      throw new IllegalArgumentException(format("Can store between 1 and %d primes, got %d", MAX_NR_PRIMES, nrPrimes));
+    }
+
+    try {
+      var store = Files.isRegularFile(file) ? map(file, verifyChecksum) : null;
+      if (store != null && store.size >= nrPrimes) {
+        return store;
+      }
+
+      write(file, nrPrimes);
+      store = map(file, true);
+      if (store == null) {
+        throw new IllegalStateException(format("Prime store %s is corrupt right after writing it", file));
+      }
+
+      return store;
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int getPrime(int index) {
+    if (index < 0 || index >= size) {
+      throw new NoSuchElementException(format("Prime store only holds %d primes, cannot get the one at index %d", size, index));
+    }
+
+    return primes.getInt(HEADER_SIZE + Integer.BYTES * index);
+  }
+
+  /*
+   * Independent supplier walking over the stored primes, just like UnboundPrimeSupplier it can be shared between threads.
+   * Once all stored primes are handed out it throws NoSuchElementException.
+   */
+  public PrimeSupplier newSupplier() {
+    var index = new AtomicInteger();
+    return () -> getPrime(index.getAndIncrement());
+  }
+
+  /*
+   * Maps the file read-only, returns null when it is not a valid prime store
+   */
+  private static MappedPrimeStore map(Path file, boolean verifyChecksum) throws IOException {
+    try (var channel = FileChannel.open(file, READ)) {
+      if (channel.size() < HEADER_SIZE) {
+        return null;
+      }
+
+      var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      var size = buffer.getInt(8);
+      var isValid = buffer.getInt(0) == MAGIC &&
+          buffer.getInt(4) == VERSION &&
+          size >= 0 &&
+          channel.size() == HEADER_SIZE + (long) Integer.BYTES * size &&
+          (!verifyChecksum || buffer.getLong(CHECKSUM_OFFSET) == checksum(buffer));
+
+      return isValid ? new MappedPrimeStore(buffer, size) : null;
+    }
+  }
+
+  /*
+   * Writes to a temporary file first and moves it in place afterwards, so concurrent readers never see a half-written store
+   */
+  private static void write(Path file, int nrPrimes) throws IOException {
+    var primes = PrimeTable.primeTable(PrimeCounting.nthPrime(nrPrimes)).toArray();
+
+    var buffer = ByteBuffer.allocate(HEADER_SIZE + Integer.BYTES * nrPrimes);
+    buffer.putInt(MAGIC)
+        .putInt(VERSION)
+        .putInt(nrPrimes)
+        .putInt(0)
+        .putLong(0L);
+    buffer.asIntBuffer().put(primes, 0, nrPrimes);
+    buffer.putLong(CHECKSUM_OFFSET, checksum(buffer));
+
+    var directory = file.toAbsolutePath().getParent();
+    var temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (var channel = FileChannel.open(temporaryFile, WRITE)) {
+        buffer.clear();
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+
+      Files.move(temporaryFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temporaryFile);
+    }
+  }
+
+  private static long checksum(ByteBuffer buffer) {
+    var crc = new CRC32C();
+    crc.update(buffer.duplicate().position(HEADER_SIZE));
+    return crc.getValue();
+  }
+}
@@ -4,39 +4,47 @@ import java.math.BigInteger;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static java.lang.String.format;
-import static java.util.Arrays.fill;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.toUnmodifiableList;
 
 public final class Math {
 
+  // floor(sqrt(Long.MAX_VALUE)), the product of any two numbers up until this one fits into a long
+  private static final long MAX_SQUARE_ROOT = 3_037_000_499L;
+  // floor(cbrt(Long.MAX_VALUE))
+  private static final long MAX_CUBE_ROOT = 2_097_151L;
+  private static final long LOW_32_BITS = 0xFFFF_FFFFL;
+  // Bit "r" is set when r is a square modulo 64, only 12 out of the 64 residues are
+  private static final long SQUARES_MOD_64 = 0x0202_0212_0203_0213L;
+
   private Math() {
     throw new IllegalStateException("Utility class constructor should never be called!");
   }
 
   public static List<Integer> getPrimesUpUntil(int number) {
-    if (number < 2) {
-      throw new IllegalArgumentException(format("Size %d contains no primes! ", number));
-    }
-
-    final var sieve = new Boolean[number + 1];
-    fill(sieve, true);
-    sieve[0] = false;
-    sieve[1] = false;
-
-    IntStream.rangeClosed(2, roundedSqrt(number))
-        .filter(i -> sieve[i])
-        .flatMap(i -> IntStream.iterate(i * i, j -> j < sieve.length, j -> j + i))
-        .forEach(j -> sieve[j] = false);
+    return getPrimesUpUntil(number, SieveMode.ODD_ONLY);
+  }
 
-    return IntStream.range(0, sieve.length)
-        .filter(i -> sieve[i])
+  public static List<Integer> getPrimesUpUntil(int number, SieveMode sieveMode) {
+    return IntStream.of(sieveMode.primesUpUntil(number))
         .boxed()
         .collect(toUnmodifiableList());
   }
 
+  /*
+   * Lazily streams all primes in [from, upUntil], for any window of longs.
+   * Memory is bounded by the window being sieved and the base primes up until sqrt(upUntil), not by upUntil itself.
+   */
+  public static LongStream primesBetween(long from, long upUntil) {
+    return SegmentedSieve.primesBetween(from, upUntil);
+  }
+
+  /*
+   * Rounds the double square root, which is inexact beyond 2^52. Prefer isqrt for integers.
+   */
   public static int roundedSqrt(Number number) {
     return Optional.ofNullable(number)
         .map(Number::doubleValue)
@@ -47,6 +55,57 @@ public final class Math {
         .orElseThrow();
   }
 
+  /*
+   * floor(sqrt(number)), exact for every non-negative long.
+   * The double square root is at most one off (also beyond 2^52, where the conversion to double rounds), so one correction step suffices.
+   */
+  public static long isqrt(long number) {
+    if (isNegative(number)) {
+      throw new IllegalArgumentException(format("Cannot take the square root of negative number %d", number));
+    }
+
+    var root = (long) java.lang.Math.sqrt(number);
+    if (root > MAX_SQUARE_ROOT || root * root > number) {
+      return root - 1;
+    }
+    if (root < MAX_SQUARE_ROOT && (root + 1) * (root + 1) <= number) {
+      return root + 1;
+    }
+
+    return root;
+  }
+
+  /*
+   * floor(cbrt(number)), exact for every non-negative long
+   */
+  public static long icbrt(long number) {
+    if (isNegative(number)) {
+      throw new IllegalArgumentException(format("Cannot take the cube root of negative number %d", number));
+    }
+
+    var root = (long) java.lang.Math.cbrt(number);
+    while (root > MAX_CUBE_ROOT || root * root * root > number) {
+      root--;
+    }
+    while (root < MAX_CUBE_ROOT && (root + 1) * (root + 1) * (root + 1) <= number) {
+      root++;
+    }
+
+    return root;
+  }
+
+  /*
+   * Most non-squares are already rejected by their residue modulo 64, without taking any square root
+   */
+  public static boolean isPerfectSquare(long number) {
+    if (isNegative(number) || (SQUARES_MOD_64 & (1L << number)) == 0) {
+      return false;
+    }
+
+    var root = isqrt(number);
+    return root * root == number;
+  }
+
   public static int pow(int base, int exponent) {
     if (base == 0 && exponent == 0) {
       throw new IllegalArgumentException("Base and exponent cannot both be 0, this is undefined");
@@ -56,25 +115,176 @@ public final class Math {
       throw new IllegalArgumentException("Negative exponents lead to results that cannot be assigned to Int");
     }
 
-    return IntStream.generate(() -> base)
-        .limit(exponent)
-        .reduce(1, Math::multiply);
+    return toIntExact(pow((long) base, exponent));
   }
 
-  public static BigInteger factorial(int number) {
-    if (isNegative(number)) {
-      throw new IllegalArgumentException(format("Cannot calculate the factorial of a negative number: %d", number));
+  public static long pow(long base, int exponent) {
+    if (base == 0 && exponent == 0) {
+      throw new IllegalArgumentException("Base and exponent cannot both be 0, this is undefined");
     }
 
-    // By convention
-    if (number == 0 || number == 1) {
-      return BigInteger.ONE;
+    if (isNegative(exponent)) {
+      throw new IllegalArgumentException("Negative exponents lead to results that cannot be assigned to Long");
     }
 
-    return IntStream.iterate(number, Math::isPositive, Math::dec)
-        .mapToObj(BigInteger::valueOf)
-        .reduce(BigInteger::multiply)
-        .orElseThrow();
+    // Exponentiation by squaring, only squaring when another bit follows so an overflow means the result itself overflows
+    var result = 1L;
+    var square = base;
+    for (var e = exponent; e != 0; e >>>= 1) {
+      if (isOdd(e)) {
+        result = multiply(result, square);
+      }
+      if (e > 1) {
+        square = multiply(square, square);
+      }
+    }
+
+    return result;
+  }
+
+  public static BigInteger pow(BigInteger base, int exponent) {
+    if (base.signum() == 0 && exponent == 0) {
+      throw new IllegalArgumentException("Base and exponent cannot both be 0, this is undefined");
+    }
+
+    if (isNegative(exponent)) {
+      throw new IllegalArgumentException("Negative exponents lead to results that cannot be assigned to BigInteger");
+    }
+
+    return base.pow(exponent);
+  }
+
+  /*
+   * base^exponent (mod modulus), in [0, modulus[ for any base and any strictly positive modulus.
+   * Odd moduli go through Montgomery multiplication, see Montgomery to reuse one modulus for many exponentiations.
+   */
+  public static long modPow(long base, long exponent, long modulus) {
+    if (!isPositive(modulus)) {
+      throw new IllegalArgumentException(format("Modulus has to be strictly positive, got %d", modulus));
+    }
+    if (base == 0 && exponent == 0) {
+      throw new IllegalArgumentException("Base and exponent cannot both be 0, this is undefined");
+    }
+    if (isNegative(exponent)) {
+      throw new IllegalArgumentException(format("Negative exponents need a modular inverse, got %d", exponent));
+    }
+
+    if (modulus == 1) {
+      return 0L;
+    }
+    if (isOdd(modulus)) {
+      return Montgomery.montgomery(modulus).modPow(base, exponent);
+    }
+
+    var result = 1L;
+    var square = floorMod(base, modulus);
+    for (var e = exponent; e != 0; e >>>= 1) {
+      if (isOdd(e)) {
+        result = mulMod(result, square, modulus);
+      }
+      square = mulMod(square, square, modulus);
+    }
+
+    return result;
+  }
+
+  /*
+   * a * b (mod modulus), in [0, modulus[ for any a and b and any strictly positive modulus, without ever overflowing
+   */
+  public static long mulMod(long a, long b, long modulus) {
+    if (!isPositive(modulus)) {
+      throw new IllegalArgumentException(format("Modulus has to be strictly positive, got %d", modulus));
+    }
+
+    var x = floorMod(a, modulus);
+    var y = floorMod(b, modulus);
+    if (x <= MAX_SQUARE_ROOT && y <= MAX_SQUARE_ROOT) {
+      return x * y % modulus;
+    }
+
+    // The full 128-bit product is below modulus^2, so its high half is below the modulus
+    return remainder(unsignedMultiplyHigh(x, y), x * y, modulus);
+  }
+
+  /*
+   * (high * 2^64 + low) (mod modulus) for an unsigned high below the modulus, by long division in 32-bit digits.
+   * The modulus is shifted left until its top bit is set, so every estimated quotient digit is at most 2 too big.
+   * Details here: Hacker's Delight, section 9-4 (divlu)
+   */
+  private static long remainder(long high, long low, long modulus) {
+    var shift = Long.numberOfLeadingZeros(modulus);
+    var divisor = modulus << shift;
+    var divisorHigh = divisor >>> 32;
+    var divisorLow = divisor & LOW_32_BITS;
+
+    var numeratorHigh = shift == 0 ? high : high << shift | low >>> (Long.SIZE - shift);
+    var numeratorLow = low << shift;
+
+    var partial = (numeratorHigh << 32 | numeratorLow >>> 32) - quotientDigit(numeratorHigh, numeratorLow >>> 32, divisorHigh, divisorLow) * divisor;
+    var remainder = (partial << 32 | numeratorLow & LOW_32_BITS) - quotientDigit(partial, numeratorLow & LOW_32_BITS, divisorHigh, divisorLow) * divisor;
+
+    return remainder >>> shift;
+  }
+
+  /*
+   * The next 32-bit quotient digit of (numerator * 2^32 + nextDigit) / divisor, estimated from the divisor's high digit and then corrected
+   */
+  private static long quotientDigit(long numerator, long nextDigit, long divisorHigh, long divisorLow) {
+    var digit = Long.divideUnsigned(numerator, divisorHigh);
+    var remainder = numerator - digit * divisorHigh;
+    while (digit > LOW_32_BITS || Long.compareUnsigned(digit * divisorLow, remainder << 32 | nextDigit) > 0) {
+      digit--;
+      remainder += divisorHigh;
+      if (remainder > LOW_32_BITS) {
+        break;
+      }
+    }
+
+    return digit;
+  }
+
+  /*
+   * High 64 bits of the unsigned 128-bit product a * b
+   */
+  static long unsignedMultiplyHigh(long a, long b) {
+    return java.lang.Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+  }
+
+  /*
+   * Binary GCD algorithm, replacing divisions by shifts.
+   * Details here: https://en.wikipedia.org/wiki/Binary_GCD_algorithm
+   */
+  public static long gcd(long a, long b) {
+    if (a == Long.MIN_VALUE || b == Long.MIN_VALUE) {
+      throw new IllegalArgumentException("The absolute value of Long.MIN_VALUE cannot be represented as a Long");
+    }
+
+    var x = abs(a);
+    var y = abs(b);
+    if (x == 0 || y == 0) {
+      return x | y;
+    }
+
+    var commonTwos = Long.numberOfTrailingZeros(x | y);
+    x >>= Long.numberOfTrailingZeros(x);
+    while (y != 0) {
+      y >>= Long.numberOfTrailingZeros(y);
+      if (x > y) {
+        var t = x;
+        x = y;
+        y = t;
+      }
+      y -= x;
+    }
+
+    return x << commonTwos;
+  }
+
+  /*
+   * n!, through balanced products of prime powers and a bounded cache, see Factorial. By convention 0! = 1.
+   */
+  public static BigInteger factorial(int number) {
+    return Factorial.factorial(number);
   }
 
   /*
@@ -118,6 +328,10 @@ public final class Math {
     return number.longValue();
   }
 
+  public static int toIntExact(long number) {
+    return java.lang.Math.toIntExact(number);
+  }
+
   public static int inc(int number) {
     return java.lang.Math.incrementExact(number);
   }
@@ -158,6 +372,10 @@ public final class Math {
     return !isStrictlyPositive(number);
   }
 
+  public static long floorMod(long x, long y) {
+    return java.lang.Math.floorMod(x, y);
+  }
+
   public static int abs(int number) {
     return java.lang.Math.abs(number);
   }
@@ -193,4 +411,12 @@ public final class Math {
   public static long max(long a, long b) {
     return java.lang.Math.max(a, b);
   }
+
+  public static int min(int a, int b) {
+    return java.lang.Math.min(a, b);
+  }
+
+  public static long min(long a, long b) {
+    return java.lang.Math.min(a, b);
+  }
 }
@@ -0,0 +1,278 @@
+package be.inniger.euler.util;
+
+import java.math.BigInteger;
+
+import static java.lang.String.format;
+
+/*
+ * Modular arithmetic beyond multiplication and exponentiation (see Math.mulMod and Math.modPow):
+ * inverses, the Chinese Remainder Theorem and division-free reducers for one fixed modulus.
+ * Every modulus has to be strictly positive, and every result lies in [0, modulus[.
+ */
+public final class ModArith {
+
+  private ModArith() {
+    throw new IllegalStateException("Utility class constructor should never be called!");
+  }
+
+  /*
+   * Extended Euclidean algorithm: gcd(a, b) together with x and y such that a * x + b * y = gcd(a, b).
+   * |x| <= |b| / gcd and |y| <= |a| / gcd, so both always fit into a long.
+   * Details here: https://en.wikipedia.org/wiki/Extended_Euclidean_algorithm
+   */
+  public static ExtendedGcd extendedGcd(long a, long b) {
+    if (a == Long.MIN_VALUE || b == Long.MIN_VALUE) {
+      throw new IllegalArgumentException("The absolute value of Long.MIN_VALUE cannot be represented as a Long");
+    }
+
+    long previousRemainder = Math.abs(a), remainder = Math.abs(b);
+    long previousX = 1L, x = 0L;
+    long previousY = 0L, y = 1L;
+    while (remainder != 0) {
+      var quotient = previousRemainder / remainder;
+
+      var nextRemainder = previousRemainder - quotient * remainder;
+      previousRemainder = remainder;
+      remainder = nextRemainder;
+
+      // Intermediate products can wrap around, the coefficients themselves never leave the range of a long
+      var nextX = previousX - quotient * x;
+      previousX = x;
+      x = nextX;
+
+      var nextY = previousY - quotient * y;
+      previousY = y;
+      y = nextY;
+    }
+
+    return new ExtendedGcd(previousRemainder, a < 0 ? -previousX : previousX, b < 0 ? -previousY : previousY);
+  }
+
+  /*
+   * x such that number * x = 1 (mod modulus), throws ArithmeticException when number and modulus are not coprime
+   */
+  public static long inverse(long number, long modulus) {
+    requirePositive(modulus);
+
+    var extendedGcd = extendedGcd(Math.floorMod(number, modulus), modulus);
+    if (extendedGcd.getGcd() != 1) {
+      throw new ArithmeticException(format("%d has no inverse modulo %d", number, modulus));
+    }
+
+    return Math.floorMod(extendedGcd.getX(), modulus);
+  }
+
+  /*
+   * The inverses of all numbers at once, through a single inverse of their product (Montgomery's trick):
+   * with prefix products P_i = a_0 * ... * a_i, a_i^-1 = P_(i-1) * P_i^-1 and P_(i-1)^-1 = a_i * P_i^-1.
+   * This takes 3 multiplications per number rather than an inverse each.
+   */
+  public static long[] batchInverse(long[] numbers, long modulus) {
+    var reducer = reducer(modulus);
+    var inverses = new long[numbers.length];
+    if (numbers.length == 0) {
+      return inverses;
+    }
+
+    // Prefix products, as residues
+    var product = reducer.one();
+    for (var i = 0; i < numbers.length; i++) {
+      product = reducer.multiply(product, reducer.toResidue(numbers[i]));
+      inverses[i] = product;
+    }
+
+    var productInverse = reducer.toResidue(inverse(reducer.fromResidue(product), modulus, numbers));
+    for (var i = numbers.length - 1; i > 0; i--) {
+      inverses[i] = reducer.fromResidue(reducer.multiply(productInverse, inverses[i - 1]));
+      productInverse = reducer.multiply(productInverse, reducer.toResidue(numbers[i]));
+    }
+    inverses[0] = reducer.fromResidue(productInverse);
+
+    return inverses;
+  }
+
+  /*
+   * The smallest non-negative x with x = remainders[i] (mod moduli[i]) for every i, unique modulo the lcm of the moduli.
+   * The moduli need not be coprime. Throws ArithmeticException when the congruences contradict each other or the lcm overflows.
+   * Details here: https://en.wikipedia.org/wiki/Chinese_remainder_theorem
+   */
+  public static long crt(long[] remainders, long[] moduli) {
+    if (remainders.length != moduli.length) {
+      throw new IllegalArgumentException(format("Got %d remainders for %d moduli", remainders.length, moduli.length));
+    }
+
+    var solution = 0L;
+    var lcm = 1L;
+    for (var i = 0; i < moduli.length; i++) {
+      requirePositive(moduli[i]);
+      var modulus = moduli[i];
+      var remainder = Math.floorMod(remainders[i], modulus);
+
+      // solution + lcm * t = remainder (mod modulus), solvable only when the gcd divides the difference
+      var gcd = Math.gcd(lcm, modulus);
+      var difference = remainder - solution;
+      if (difference % gcd != 0) {
+        throw new ArithmeticException(format("x = %d (mod %d) contradicts the congruences before it", remainders[i], modulus));
+      }
+
+      var step = modulus / gcd;
+      var t = Math.mulMod(difference / gcd, inverse(lcm / gcd, step), step);
+      var nextLcm = Math.multiply(lcm, step);
+      solution += lcm * t; // Below the new lcm
+      lcm = nextLcm;
+    }
+
+    return solution;
+  }
+
+  /*
+   * A division-free reducer for the modulus: Barrett up until 2^32, Montgomery for bigger odd moduli,
+   * and a Barrett-style reduction by a precomputed 128-bit reciprocal for bigger even moduli.
+   */
+  public static ModularReducer reducer(long modulus) {
+    requirePositive(modulus);
+
+    if (modulus <= 1L << 32) {
+      return Barrett.barrett(modulus);
+    }
+    if (Math.isOdd(modulus)) {
+      return Montgomery.montgomery(modulus);
+    }
+
+    return new WideBarrett(modulus);
+  }
+
+  private static long inverse(long product, long modulus, long[] numbers) {
+    if (Math.gcd(product, modulus) == 1) {
+      return inverse(product, modulus);
+    }
+
+    // Some number shares a factor with the modulus, report the first one
+    for (var i = 0; ; i++) {
+      if (Math.gcd(Math.floorMod(numbers[i], modulus), modulus) != 1) {
+        throw new ArithmeticException(format("%d at index %d has no inverse modulo %d", numbers[i], i, modulus));
+      }
+    }
+  }
+
+  private static void requirePositive(long modulus) {
+    if (!Math.isPositive(modulus)) {
+      throw new IllegalArgumentException(format("Modulus has to be strictly positive, got %d", modulus));
+    }
+  }
+
+  /*
+   * gcd = a * x + b * y, with gcd non-negative
+   */
+  public static final class ExtendedGcd {
+
+    private final long gcd;
+    private final long x;
+    private final long y;
+
+    private ExtendedGcd(long gcd, long x, long y) {
+      this.gcd = gcd;
+      this.x = x;
+      this.y = y;
+    }
+
+    public long getGcd() {
+      return gcd;
+    }
+
+    public long getX() {
+      return x;
+    }
+
+    public long getY() {
+      return y;
+    }
+
+    @Override
+    public String toString() {
+      return "ExtendedGcd{" +
+          "gcd=" + gcd +
+          ", x=" + x +
+          ", y=" + y +
+          '}';
+    }
+  }
+
+  /*
+   * Barrett reduction for any modulus n < 2^63, on ordinary numbers in [0, n[.
+   * The modulus is shifted left by s bits until its top bit is set, giving d, and v = floor((2^128 - 1) / d) - 2^64 is computed once.
+   * Every product x < n^2, shifted left by s bits as well, then gets its quotient by d estimated from v with two multiplications,
+   * which needs at most two corrections. The remainder by d shifted right by s bits is x (mod n).
+   * Details here: Möller and Granlund, "Improved division by invariant integers" (algorithm 4)
+   */
+  private static final class WideBarrett implements ModularReducer {
+
+    private final long modulus;
+    private final int shift;
+    private final long divisor;
+    private final long reciprocal;
+
+    private WideBarrett(long modulus) {
+      this.modulus = modulus;
+      this.shift = Long.numberOfLeadingZeros(modulus); // At least 1, the modulus being a positive long
+      this.divisor = modulus << shift;
+      this.reciprocal = BigInteger.ONE.shiftLeft(2 * Long.SIZE)
+          .subtract(BigInteger.ONE)
+          .divide(new BigInteger(Long.toUnsignedString(divisor)))
+          .longValue(); // The low 64 bits, dropping the 2^64
+    }
+
+    @Override
+    public long getModulus() {
+      return modulus;
+    }
+
+    @Override
+    public long one() {
+      return 1L;
+    }
+
+    @Override
+    public long toResidue(long number) {
+      return number >= 0 ? reduce(0L, number) : Math.floorMod(number, modulus);
+    }
+
+    @Override
+    public long fromResidue(long residue) {
+      return residue;
+    }
+
+    /*
+     * a * b (mod n), for a and b in [0, n[
+     */
+    @Override
+    public long multiply(long a, long b) {
+      return reduce(Math.unsignedMultiplyHigh(a, b), a * b);
+    }
+
+    /*
+     * (high * 2^64 + low) (mod n), for any input below n * 2^64
+     */
+    private long reduce(long high, long low) {
+      var u1 = high << shift | low >>> (Long.SIZE - shift);
+      var u0 = low << shift;
+
+      // (q1, q0) = v * u1 + (u1 + 1, u0), q1 being the estimated quotient
+      var q0 = reciprocal * u1;
+      var q1 = Math.unsignedMultiplyHigh(reciprocal, u1);
+      var sum = q0 + u0;
+      q1 += u1 + 1 + (Long.compareUnsigned(sum, q0) < 0 ? 1 : 0);
+      q0 = sum;
+
+      var remainder = u0 - q1 * divisor;
+      if (Long.compareUnsigned(remainder, q0) > 0) {
+        remainder += divisor;
+      }
+      if (Long.compareUnsigned(remainder, divisor) >= 0) {
+        remainder -= divisor;
+      }
+
+      return remainder >>> shift;
+    }
+  }
+}
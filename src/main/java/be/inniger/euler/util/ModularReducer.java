@@ -0,0 +1,57 @@
+package be.inniger.euler.util;
+
+/*
+ * Modular multiplication for one fixed modulus without any hardware division, see ModArith.reducer to pick one.
+ * Numbers are multiplied in the reducer's own residue form, which only needs converting on the way in and on the way out.
+ * Addition and subtraction of residues work just like they do for ordinary numbers modulo n.
+ */
+public interface ModularReducer {
+
+  long getModulus();
+
+  /*
+   * 1 in residue form
+   */
+  long one();
+
+  long toResidue(long number);
+
+  /*
+   * The ordinary number in [0, n[ of a residue
+   */
+  long fromResidue(long residue);
+
+  /*
+   * Product of two residues, as a residue
+   */
+  long multiply(long a, long b);
+
+  default long square(long a) {
+    return multiply(a, a);
+  }
+
+  default long add(long a, long b) {
+    var sum = a + b; // Below 2n < 2^64, fits into an unsigned long
+    return Long.compareUnsigned(sum, getModulus()) >= 0 ? sum - getModulus() : sum;
+  }
+
+  default long subtract(long a, long b) {
+    var difference = a - b;
+    return difference < 0 ? difference + getModulus() : difference;
+  }
+
+  /*
+   * base^exponent as a residue, for a base as a residue and an exponent read as an unsigned long
+   */
+  default long pow(long base, long exponent) {
+    var result = one();
+    for (var e = exponent; e != 0; e >>>= 1) {
+      if ((e & 1) != 0) {
+        result = multiply(result, base);
+      }
+      base = multiply(base, base);
+    }
+
+    return result;
+  }
+}
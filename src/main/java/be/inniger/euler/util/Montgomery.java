@@ -0,0 +1,146 @@
+package be.inniger.euler.util;
+
+import static java.lang.String.format;
+
+/*
+ * Modular arithmetic for one fixed odd modulus n < 2^63, with numbers kept in Montgomery form "x * 2^64 (mod n)".
+ * Multiplying two numbers in this form only takes a few multiplications and no division at all.
+ * Details here: https://en.wikipedia.org/wiki/Montgomery_modular_multiplication
+ *
+ * Setting up a modulus takes a few dozen steps, so create one instance per modulus and reuse it for every operation.
+ * As a ModularReducer, its residues are the numbers in Montgomery form.
+ */
+public final class Montgomery implements ModularReducer {
+
+  private final long modulus;
+  private final long negatedInverse;
+  private final long one;
+  private final long rSquared;
+
+  private Montgomery(long modulus) {
+    this.modulus = modulus;
+    this.negatedInverse = negatedInverse(modulus);
+    this.one = Long.remainderUnsigned(-modulus, modulus); // 2^64 mod n
+    this.rSquared = rSquared(modulus, one);
+  }
+
+  public static Montgomery montgomery(long modulus) {
+    if (modulus < 3 || Math.isEven(modulus)) {
+      throw new IllegalArgumentException(format("Montgomery form needs an odd modulus bigger than 1, got %d", modulus));
+    }
+
+    return new Montgomery(modulus);
+  }
+
+  @Override
+  public long getModulus() {
+    return modulus;
+  }
+
+  /*
+   * 1 in Montgomery form
+   */
+  @Override
+  public long one() {
+    return one;
+  }
+
+  /*
+   * -1 in Montgomery form
+   */
+  public long minusOne() {
+    return modulus - one;
+  }
+
+  public long toMontgomery(long number) {
+    return multiply(number >= 0 && number < modulus ? number : Math.floorMod(number, modulus), rSquared);
+  }
+
+  public long fromMontgomery(long number) {
+    return reduce(0L, number);
+  }
+
+  @Override
+  public long toResidue(long number) {
+    return toMontgomery(number);
+  }
+
+  @Override
+  public long fromResidue(long residue) {
+    return fromMontgomery(residue);
+  }
+
+  /*
+   * a * b * 2^-64 (mod n), for a and b in [0, n[
+   */
+  @Override
+  public long multiply(long a, long b) {
+    return reduce(java.lang.Math.multiplyHigh(a, b), a * b);
+  }
+
+  @Override
+  public long square(long a) {
+    return multiply(a, a);
+  }
+
+  /*
+   * base^exponent in Montgomery form, for a base in Montgomery form and an exponent read as an unsigned long
+   */
+  @Override
+  public long pow(long base, long exponent) {
+    var result = one;
+    for (var e = exponent; e != 0; e >>>= 1) {
+      if ((e & 1) != 0) {
+        result = multiply(result, base);
+      }
+      base = multiply(base, base);
+    }
+
+    return result;
+  }
+
+  /*
+   * base^exponent (mod n) for an ordinary base, converting it to Montgomery form and the result back
+   */
+  public long modPow(long base, long exponent) {
+    return fromMontgomery(pow(toMontgomery(base), exponent));
+  }
+
+  /*
+   * (high * 2^64 + low) * 2^-64 (mod n), for any input below n * 2^64
+   */
+  private long reduce(long high, long low) {
+    // m is picked so that "low + m * n" is divisible by 2^64, its low half is hence 0 and only carries if low != 0
+    var m = low * negatedInverse;
+    var result = high + Math.unsignedMultiplyHigh(m, modulus) + (low != 0 ? 1 : 0);
+
+    return Long.compareUnsigned(result, modulus) >= 0 ? result - modulus : result;
+  }
+
+  /*
+   * -n^-1 (mod 2^64), by Newton's iteration doubling the number of correct bits every step (n * n = 1 (mod 8) for odd n)
+   */
+  private static long negatedInverse(long n) {
+    var inverse = n;
+    for (var i = 0; i < 5; i++) {
+      inverse *= 2 - n * inverse;
+    }
+
+    return -inverse;
+  }
+
+  /*
+   * 2^128 (mod n), converting a number x to Montgomery form is then a Montgomery multiplication with this value
+   */
+  private static long rSquared(long n, long r) {
+    var result = r;
+    for (var i = 0; i < Long.SIZE; i++) {
+      result <<= 1;
+      if (Long.compareUnsigned(result, n) >= 0) {
+        result -= n;
+      }
+    }
+
+    return result;
+  }
+}
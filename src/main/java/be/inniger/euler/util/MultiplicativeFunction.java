@@ -0,0 +1,49 @@
+package be.inniger.euler.util;
+
+/*
+ * Arithmetic function with f(1) = 1 and f(a * b) = f(a) * f(b) for coprime a and b.
+ * Such a function is fully defined by its values on prime powers, see MultiplicativeSieve to tabulate it.
+ * Values are multiplied as plain longs, so every value up until the limit of the table has to fit into a long.
+ */
+@FunctionalInterface
+public interface MultiplicativeFunction {
+
+  /*
+   * Euler's totient phi(n), the count of numbers in [1, n] that are coprime to n: phi(p^k) = (p - 1) * p^(k - 1)
+   */
+  MultiplicativeFunction TOTIENT = (prime, exponent) -> {
+    var value = prime - 1;
+    for (var i = 1; i < exponent; i++) {
+      value *= prime;
+    }
+    return value;
+  };
+
+  /*
+   * Moebius function mu(n), 0 if n has a squared prime factor and (-1)^k if n is a product of k distinct primes
+   */
+  MultiplicativeFunction MOBIUS = (prime, exponent) -> exponent == 1 ? -1 : 0;
+
+  /*
+   * Number of divisors d(n): d(p^k) = k + 1
+   */
+  MultiplicativeFunction DIVISOR_COUNT = (prime, exponent) -> exponent + 1;
+
+  /*
+   * Sum of divisors sigma(n): sigma(p^k) = 1 + p + ... + p^k
+   */
+  MultiplicativeFunction DIVISOR_SUM = (prime, exponent) -> {
+    var primePower = 1L;
+    var value = 1L;
+    for (var i = 0; i < exponent; i++) {
+      primePower *= prime;
+      value += primePower;
+    }
+    return value;
+  };
+
+  /*
+   * f(p^k), for every prime p and exponent k >= 1
+   */
+  long ofPrimePower(long prime, int exponent);
+}
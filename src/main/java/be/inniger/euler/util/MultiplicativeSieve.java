@@ -0,0 +1,132 @@
+package be.inniger.euler.util;
+
+import static java.lang.String.format;
+
+/*
+ * Tabulates a multiplicative function for every number up until (and including) a given limit, in one pass.
+ *
+ * Sequentially this is a linear sieve: every composite "p * i" (p the smallest prime factor) is visited exactly once, in O(N).
+ * If p also divides i, f(p * i) = f(i / p^e) * f(p^(e + 1)) with p^e the power of p in i, otherwise f(p * i) = f(i) * f(p).
+ *
+ * The linear sieve depends on the values before it, so in parallel the table is built in independent segments instead,
+ * where every number gets its factor "p^e" divided out for each base prime p, in O(N log(log(N))).
+ */
+public final class MultiplicativeSieve {
+
+  // Numbers per segment, so the remaining cofactors of the segment being sieved stay in the L1 cache
+  private static final int SEGMENT_SIZE = 1 << 13;
+
+  private MultiplicativeSieve() {
+    throw new IllegalStateException("Utility class constructor should never be called!");
+  }
+
+  /*
+   * The table "f(n)" for n in [0, upUntil], f(0) is 0 by convention
+   */
+  public static long[] multiplicativeTable(MultiplicativeFunction function, int upUntil) {
+    validate(upUntil);
+
+    var values = new long[upUntil + 1];
+    // Power of the smallest prime factor of every number, and the exponent of that prime
+    var smallestPrimePowers = new int[upUntil + 1];
+    var smallestPrimeExponents = new byte[upUntil + 1];
+    var primes = new int[(int) (1.25506 * (upUntil + 1) / Math.log(upUntil + 1)) + 1]; // pi(x) < 1.25506 * x / ln(x)
+    var nrPrimes = 0;
+
+    values[1] = 1L;
+    for (var i = 2; i <= upUntil; i++) {
+      if (smallestPrimePowers[i] == 0) {
+        primes[nrPrimes++] = i;
+        values[i] = function.ofPrimePower(i, 1);
+        smallestPrimePowers[i] = i;
+        smallestPrimeExponents[i] = 1;
+      }
+
+      for (var j = 0; j < nrPrimes; j++) {
+        var prime = primes[j];
+        if ((long) prime * i > upUntil) {
+          break;
+        }
+
+        var n = prime * i;
+        if (i % prime != 0) {
+          values[n] = values[i] * values[prime];
+          smallestPrimePowers[n] = prime;
+          smallestPrimeExponents[n] = 1;
+          continue;
+        }
+
+        // The smallest prime factor of i is this prime, so this is the last prime to visit for i
+        var exponent = smallestPrimeExponents[i] + 1;
+        var rest = i / smallestPrimePowers[i];
+        values[n] = values[rest] * function.ofPrimePower(prime, exponent);
+        smallestPrimePowers[n] = smallestPrimePowers[i] * prime;
+        smallestPrimeExponents[n] = (byte) exponent;
+        break;
+      }
+    }
+
+    return values;
+  }
+
+  /*
+   * Same table, but built from segments sieved concurrently on a ForkJoinPool
+   */
+  public static long[] multiplicativeTable(MultiplicativeFunction function, int upUntil, int parallelism) {
+    validate(upUntil);
+
+    var values = new long[upUntil + 1];
+    var root = Math.isqrt(upUntil);
+    var basePrimes = root < 2 ? new int[0] : PrimeTable.primeTable(root).toArray();
+    var nrSegments = (int) (((long) upUntil + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+
+    ParallelSegments.forEachSegment(nrSegments, parallelism, segment -> {
+      var from = 1 + segment * SEGMENT_SIZE;
+      sieveSegment(function, values, basePrimes, from, (int) Math.min((long) from + SEGMENT_SIZE - 1, upUntil));
+    });
+
+    return values;
+  }
+
+  private static void validate(int upUntil) {
+    if (upUntil < 1 || upUntil == Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(format("Multiplicative tables can go up until any number in [1, %d[, got %d", Integer.MAX_VALUE, upUntil));
+    }
+  }
+
+  /*
+   * Fills the table for all numbers in [from, upUntil]
+   */
+  private static void sieveSegment(MultiplicativeFunction function, long[] values, int[] basePrimes, int from, int upUntil) {
+    var remaining = new int[upUntil - from + 1];
+    for (var n = from; n <= upUntil; n++) {
+      remaining[n - from] = n;
+      values[n] = 1L;
+    }
+
+    for (var prime : basePrimes) {
+      if ((long) prime * prime > upUntil) {
+        break;
+      }
+
+      for (var n = ((long) from + prime - 1) / prime * prime; n <= upUntil; n += prime) {
+        var index = (int) (n - from);
+        var exponent = 0;
+        do {
+          remaining[index] /= prime;
+          exponent++;
+        } while (remaining[index] % prime == 0);
+
+        values[(int) n] *= function.ofPrimePower(prime, exponent);
+      }
+    }
+
+    // At most one prime factor is bigger than sqrt(n), and it occurs only once
+    for (var n = from; n <= upUntil; n++) {
+      var prime = remaining[n - from];
+      if (prime > 1) {
+        values[n] *= function.ofPrimePower(prime, 1);
+      }
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package be.inniger.euler.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+import static java.lang.String.format;
+
+/*
+ * Fork/join driver shared by the segmented sieves: runs a callback for every segment in [0, nrSegments[ on a ForkJoinPool.
+ * The segments have to be independent of each other, typically every segment writes its own part of one shared table.
+ */
+final class ParallelSegments {
+
+  private ParallelSegments() {
+    throw new IllegalStateException("Utility class constructor should never be called!");
+  }
+
+  static void forEachSegment(int nrSegments, int parallelism, IntConsumer sieveSegment) {
+    if (!Math.isPositive(parallelism)) {
+      throw new IllegalArgumentException(format("Parallelism needs to be positive, got %d", parallelism));
+    }
+
+    var pool = new ForkJoinPool(parallelism);
+    try {
+      pool.invoke(new SegmentTask(sieveSegment, 0, nrSegments));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /*
+   * Sieves the segments [fromSegment, toSegment[, splitting the range in halves until only one segment is left
+   */
+  private static final class SegmentTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient IntConsumer sieveSegment;
+    private final int fromSegment;
+    private final int toSegment;
+
+    private SegmentTask(IntConsumer sieveSegment, int fromSegment, int toSegment) {
+      this.sieveSegment = sieveSegment;
+      this.fromSegment = fromSegment;
+      this.toSegment = toSegment;
+    }
+
+    @Override
+    protected void compute() {
+      if (toSegment - fromSegment <= 1) {
+        if (fromSegment < toSegment) {
+          sieveSegment.accept(fromSegment);
+        }
+        return;
+      }
+
+      var middleSegment = (fromSegment + toSegment) >>> 1;
+      invokeAll(
+          new SegmentTask(sieveSegment, fromSegment, middleSegment),
+          new SegmentTask(sieveSegment, middleSegment, toSegment));
+    }
+  }
+}
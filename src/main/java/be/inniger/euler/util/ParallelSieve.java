@@ -0,0 +1,48 @@
+package be.inniger.euler.util;
+
+import static be.inniger.euler.util.PrimeTable.SEGMENT_WORDS;
+import static java.lang.String.format;
+
+/*
+ * Sieve engine building a PrimeTable on a ForkJoinPool.
+ * The range [2, N] is split in cache-sized segments which are sieved concurrently with a shared set of base primes,
+ * every segment writes its own words of one shared bit set so no merging is needed afterwards.
+ */
+public final class ParallelSieve {
+
+  private final int parallelism;
+
+  private ParallelSieve(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  public static ParallelSieve newInstance() {
+    return newInstance(Runtime.getRuntime().availableProcessors());
+  }
+
+  public static ParallelSieve newInstance(int parallelism) {
+    if (!Math.isPositive(parallelism)) {
+      throw new IllegalArgumentException(format("Parallelism needs to be positive, got %d", parallelism));
+    }
+
+    return new ParallelSieve(parallelism);
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public PrimeTable primeTable(long upUntil) {
+    var composites = PrimeTable.newComposites(upUntil);
+    var basePrimes = PrimeTable.basePrimes(upUntil);
+    var nrSegments = (composites.length + SEGMENT_WORDS - 1) / SEGMENT_WORDS;
+
+    ParallelSegments.forEachSegment(nrSegments, parallelism, segment -> {
+      var fromWord = segment * SEGMENT_WORDS;
+      var toWord = Math.min(fromWord + SEGMENT_WORDS, composites.length);
+      PrimeTable.sieveSegment(composites, upUntil, basePrimes, fromWord, toWord);
+    });
+
+    return new PrimeTable(upUntil, composites);
+  }
+}
@@ -0,0 +1,123 @@
+package be.inniger.euler.util;
+
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/*
+ * Factorization of 64-bit integers.
+ * Small factors are removed by trial division, what remains is either recognised as a prime by Miller-Rabin,
+ * or split in two by Pollard's rho algorithm with Brent's cycle detection, after which both halves are factorized further.
+ * Details here: https://en.wikipedia.org/wiki/Pollard%27s_rho_algorithm
+ */
+public final class PollardRho {
+
+  private static final int TRIAL_DIVISION_LIMIT = 1 << 10;
+  private static final int[] TRIAL_DIVISORS = PrimeTable.primeTable(TRIAL_DIVISION_LIMIT).toArray();
+  // Number of steps to accumulate in one product before taking its GCD with n
+  private static final int BATCH_SIZE = 128;
+
+  private PollardRho() {
+    throw new IllegalStateException("Utility class constructor should never be called!");
+  }
+
+  /*
+   * All prime factors of a strictly positive number, in ascending order and repeated as often as they divide the number
+   * E.g. 20 factorizes into [2, 2, 5]
+   */
+  public static long[] primeFactors(long number) {
+    if (!Math.isPositive(number)) {
+      throw new IllegalArgumentException(format("Can only factorize strictly positive numbers, got %d", number));
+    }
+
+    var factors = new long[Long.SIZE];
+    var nrFactors = 0;
+    var remainder = number;
+
+    for (var divisor : TRIAL_DIVISORS) {
+      if ((long) divisor * divisor > remainder) {
+        break;
+      }
+      while (remainder % divisor == 0) {
+        factors[nrFactors++] = divisor;
+        remainder /= divisor;
+      }
+    }
+
+    if (remainder != 1) {
+      nrFactors = splitIntoPrimes(remainder, factors, nrFactors);
+    }
+
+    var primeFactors = Arrays.copyOf(factors, nrFactors);
+    Arrays.sort(primeFactors);
+    return primeFactors;
+  }
+
+  /*
+   * Appends the prime factors of n, which has no prime factors below the trial division limit, returns the new number of factors
+   */
+  private static int splitIntoPrimes(long n, long[] factors, int nrFactors) {
+    if (n < (long) TRIAL_DIVISION_LIMIT * TRIAL_DIVISION_LIMIT || Primality.isProbablePrime(n)) {
+      factors[nrFactors] = n;
+      return nrFactors + 1;
+    }
+
+    var divisor = findDivisor(n);
+    return splitIntoPrimes(n / divisor, factors, splitIntoPrimes(divisor, factors, nrFactors));
+  }
+
+  /*
+   * Non-trivial divisor of an odd composite n, iterating x -> x^2 + c (mod n) until the sequence cycles modulo a prime factor of n.
+   * The iteration happens on the Montgomery forms, which is just as pseudo-random and leaves gcd(x - y, n) unchanged.
+   */
+  private static long findDivisor(long n) {
+    var montgomery = Montgomery.montgomery(n);
+
+    for (var c = 1L; ; c++) {
+      var divisor = brent(montgomery, montgomery.toMontgomery(c));
+      if (divisor != n) {
+        return divisor;
+      }
+    }
+  }
+
+  private static long brent(Montgomery montgomery, long c) {
+    var n = montgomery.getModulus();
+    var y = montgomery.toMontgomery(2);
+    var x = y;
+    var ys = y;
+    var product = montgomery.one();
+    var gcd = 1L;
+
+    for (var r = 1L; gcd == 1; r <<= 1) {
+      x = y;
+      for (var i = 0; i < r; i++) {
+        y = step(montgomery, y, c);
+      }
+
+      for (var k = 0L; k < r && gcd == 1; k += BATCH_SIZE) {
+        ys = y;
+        for (var i = 0; i < Math.min(BATCH_SIZE, r - k); i++) {
+          y = step(montgomery, y, c);
+          product = montgomery.multiply(product, Math.abs(x - y));
+        }
+        gcd = Math.gcd(product, n);
+      }
+    }
+
+    // The batched product overshot and became 0 (mod n), redo the last batch one step at a time
+    if (gcd == n) {
+      do {
+        ys = step(montgomery, ys, c);
+        gcd = Math.gcd(Math.abs(x - ys), n);
+      } while (gcd == 1);
+    }
+
+    return gcd;
+  }
+
+  private static long step(Montgomery montgomery, long x, long c) {
+    var next = montgomery.square(x) + c; // Both terms are below n < 2^63, so the sum fits in an unsigned long
+    return Long.compareUnsigned(next, montgomery.getModulus()) >= 0 ? next - montgomery.getModulus() : next;
+  }
+}
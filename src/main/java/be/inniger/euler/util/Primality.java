@@ -0,0 +1,73 @@
+package be.inniger.euler.util;
+
+/*
+ * Primality testing of single numbers too big to sieve up until.
+ * Small numbers are simply looked up in a sieved table, bigger ones go through a deterministic Miller-Rabin test.
+ * Details here: https://en.wikipedia.org/wiki/Miller%E2%80%93Rabin_primality_test
+ */
+public final class Primality {
+
+  private static final PrimeTable SMALL_PRIMES = PrimeTable.primeTable(1 << 16);
+  private static final int[] TRIAL_DIVISORS = {3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47};
+  // Jim Sinclair's bases, testing against all of them is known to be deterministic for every n < 2^64
+  private static final long[] WITNESSES = {2, 325, 9375, 28178, 450775, 9780504, 1795265022};
+
+  private Primality() {
+    throw new IllegalStateException("Utility class constructor should never be called!");
+  }
+
+  /*
+   * Despite the name (mirroring BigInteger.isProbablePrime) the answer is exact for every long value
+   */
+  public static boolean isProbablePrime(long number) {
+    if (number <= SMALL_PRIMES.getLimit()) {
+      return SMALL_PRIMES.isPrime(number);
+    }
+
+    if (Math.isEven(number)) {
+      return false;
+    }
+    for (var divisor : TRIAL_DIVISORS) {
+      if (number % divisor == 0) {
+        return false;
+      }
+    }
+
+    return isStrongProbablePrime(number);
+  }
+
+  /*
+   * Write n - 1 = d * 2^s with d odd, n is a strong probable prime to base a if either
+   * a^d = 1 (mod n) or a^(d * 2^r) = -1 (mod n) for some 0 <= r < s.
+   *
+   * All the arithmetic happens in Montgomery form so no 128-bit division is ever needed.
+   */
+  private static boolean isStrongProbablePrime(long n) {
+    var s = Long.numberOfTrailingZeros(n - 1);
+    var d = (n - 1) >>> s;
+    var montgomery = Montgomery.montgomery(n);
+
+    for (var witness : WITNESSES) {
+      var a = witness % n;
+      if (a == 0) {
+        continue;
+      }
+
+      var x = montgomery.pow(montgomery.toMontgomery(a), d);
+      if (x == montgomery.one() || x == montgomery.minusOne()) {
+        continue;
+      }
+
+      var isWitnessOfCompositeness = true;
+      for (var r = 1; r < s && isWitnessOfCompositeness; r++) {
+        x = montgomery.square(x);
+        isWitnessOfCompositeness = x != montgomery.minusOne();
+      }
+      if (isWitnessOfCompositeness) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,241 @@
+package be.inniger.euler.util;
+
+import java.math.BigInteger;
+
+import static java.lang.String.format;
+
+/*
+ * Counting primes without sieving all of them, based on Lucy_Hedgehog's algorithm.
+ * Details here: https://projecteuler.net/thread=10;page=5#111677
+ *
+ * Let S(v, p) be the count of numbers in [2, v] that are either prime or have no prime factor up until p.
+ * S(v, 1) = v - 1 and S(v, sqrt(v)) = pi(v), going from p - 1 to p (for p prime) removes the numbers with p as smallest prime factor:
+ * S(v, p) = S(v, p - 1) - (S(v / p, p - 1) - S(p - 1, p - 1))
+ *
+ * Only the values floor(x / i) are ever needed, of which there are about 2 * sqrt(x),
+ * giving a running time of O(x^(3/4)) in O(sqrt(x)) memory.
+ *
+ * Summing the primes works the same way, with T(v, p) the sum of those numbers instead of their count:
+ * T(v, 1) = 2 + 3 + ... + v and T(v, p) = T(v, p - 1) - p * (T(v / p, p - 1) - T(p - 1, p - 1))
+ */
+public final class PrimeCounting {
+
+  // The estimate usually lands close to the prime, start sieving small windows and grow them up until the maximum
+  private static final int MIN_WINDOW_SIZE = 1 << 10;
+  private static final int MAX_WINDOW_SIZE = 1 << 20;
+  // Up until here the sum of all primes is below x * (x + 1) / 2 < 2^63 - 1, so summing modulo 2^63 - 1 already gives the exact value
+  private static final long MAX_LONG_SUM_LIMIT = (1L << 32) - 1;
+  // The sum of all primes up until any long x is below 2 + (x + 1)^2 / 4 < 2^124, while these coprime moduli cover sums up until about 2^125
+  private static final long ODD_MODULUS = Long.MAX_VALUE;
+  private static final long EVEN_MODULUS = 1L << 62;
+
+  private PrimeCounting() {
+    throw new IllegalStateException("Utility class constructor should never be called!");
+  }
+
+  /*
+   * Number of primes up until (and including) x
+   */
+  public static long primePi(long x) {
+    if (x < 2) {
+      return 0L;
+    }
+
+    var root = (int) Math.isqrt(x);
+    // small[v] = S(v) for v <= root, large[i] = S(x / i) for i <= root
+    var small = new long[root + 1];
+    var large = new long[root + 1];
+    for (var v = 1; v <= root; v++) {
+      small[v] = v - 1;
+      large[v] = x / v - 1;
+    }
+
+    for (var p = 2; p <= root; p++) {
+      if (small[p] == small[p - 1]) {
+        continue; // p is not a prime
+      }
+
+      var smallerPrimes = small[p - 1];
+      var pSquared = (long) p * p;
+      var largeEnd = (int) Math.min(root, x / pSquared);
+
+      for (var i = 1; i <= largeEnd; i++) {
+        var d = (long) i * p;
+        var sOfVDividedByP = d <= root ? large[(int) d] : small[(int) (x / d)];
+        large[i] -= sOfVDividedByP - smallerPrimes;
+      }
+      for (var v = root; v >= pSquared; v--) {
+        small[v] -= small[v / p] - smallerPrimes;
+      }
+    }
+
+    return large[1];
+  }
+
+  /*
+   * Sum of all primes up until (and including) x, which no longer fits into a long from about x = 2 * 10^10 onwards
+   */
+  public static BigInteger sumOfPrimesUpTo(long x) {
+    if (x < 2) {
+      return BigInteger.ZERO;
+    }
+
+    var sumModOdd = sumOfPrimes(x, ModArith.reducer(ODD_MODULUS));
+    if (x <= MAX_LONG_SUM_LIMIT) {
+      return BigInteger.valueOf(sumModOdd);
+    }
+
+    var sumModEven = sumOfPrimes(x, ModArith.reducer(EVEN_MODULUS));
+    return chineseRemainder(BigInteger.valueOf(sumModOdd), BigInteger.valueOf(ODD_MODULUS),
+        BigInteger.valueOf(sumModEven), BigInteger.valueOf(EVEN_MODULUS));
+  }
+
+  /*
+   * Sum of all primes up until (and including) x, modulo any strictly positive modulus, computed with the reducer of ModArith
+   */
+  public static long sumOfPrimesUpTo(long x, long modulus) {
+    if (!Math.isPositive(modulus)) {
+      throw new IllegalArgumentException(format("Modulus has to be strictly positive, got %d", modulus));
+    }
+
+    if (x < 2 || modulus == 1) {
+      return 0L;
+    }
+
+    return sumOfPrimes(x, ModArith.reducer(modulus));
+  }
+
+  /*
+   * The n-th prime (1-indexed), found by counting the primes up until an estimate of its value,
+   * and sieving the few remaining numbers between that estimate and the actual prime.
+   */
+  public static long nthPrime(long n) {
+    if (!Math.isPositive(n)) {
+      throw new IllegalArgumentException(format("Primes are 1-indexed, cannot get prime number %d", n));
+    }
+
+    if (n < 6) {
+      return PrimeTable.primeTable(11).toArray()[(int) n - 1];
+    }
+
+    var basePrimes = PrimeTable.primeTable(Math.isqrt(upperBound(n))).toArray();
+    var estimate = estimate(n);
+    var nrPrimesUpUntilEstimate = primePi(estimate);
+
+    return nrPrimesUpUntilEstimate < n ?
+        nthPrimeAfter(estimate, n - nrPrimesUpUntilEstimate, basePrimes) :
+        nthPrimeUpUntil(estimate, nrPrimesUpUntilEstimate - n + 1, basePrimes);
+  }
+
+  /*
+   * Lucy_Hedgehog's algorithm for the sum of all primes up until x, modulo the modulus of the reducer.
+   * All values in the tables are residues of that reducer.
+   */
+  private static long sumOfPrimes(long x, ModularReducer reducer) {
+    var root = (int) Math.isqrt(x);
+    // small[v] = T(v) for v <= root, large[i] = T(x / i) for i <= root
+    var small = new long[root + 1];
+    var large = new long[root + 1];
+    for (var v = 1; v <= root; v++) {
+      small[v] = sumFromTwo(v, reducer);
+      large[v] = sumFromTwo(x / v, reducer);
+    }
+
+    // Only primes change T, and a small modulus can make the sum of a prime 0, so take the primes from a sieve instead of from T
+    for (var primes = PrimeTable.primeTable(Math.max(root, 2)).longStream().iterator(); primes.hasNext(); ) {
+      var p = (int) primes.nextLong();
+      var pSquared = (long) p * p;
+      if (pSquared > x) {
+        break;
+      }
+
+      var smallerPrimes = small[p - 1];
+      var prime = reducer.toResidue(p);
+      var largeEnd = (int) Math.min(root, x / pSquared);
+
+      for (var i = 1; i <= largeEnd; i++) {
+        var d = (long) i * p;
+        var tOfVDividedByP = d <= root ? large[(int) d] : small[(int) (x / d)];
+        large[i] = reducer.subtract(large[i], reducer.multiply(prime, reducer.subtract(tOfVDividedByP, smallerPrimes)));
+      }
+      for (var v = root; v >= pSquared; v--) {
+        small[v] = reducer.subtract(small[v], reducer.multiply(prime, reducer.subtract(small[v / p], smallerPrimes)));
+      }
+    }
+
+    return reducer.fromResidue(large[1]);
+  }
+
+  /*
+   * 2 + 3 + ... + v = v * (v + 1) / 2 - 1, halving whichever factor is even first so nothing overflows before reducing
+   */
+  private static long sumFromTwo(long v, ModularReducer reducer) {
+    var a = Math.isEven(v) ? v / 2 : v;
+    var b = Math.isEven(v) ? v + 1 : v / 2 + 1;
+
+    return reducer.subtract(reducer.multiply(reducer.toResidue(a), reducer.toResidue(b)), reducer.one());
+  }
+
+  /*
+   * The unique x in [0, m * n[ with x = a (mod m) and x = b (mod n), for coprime m and n
+   */
+  private static BigInteger chineseRemainder(BigInteger a, BigInteger m, BigInteger b, BigInteger n) {
+    return b.subtract(a)
+        .multiply(m.modInverse(n))
+        .mod(n)
+        .multiply(m)
+        .add(a);
+  }
+
+  /*
+   * The k-th prime strictly bigger than "from"
+   */
+  private static long nthPrimeAfter(long from, long k, int[] basePrimes) {
+    var remaining = k;
+    var windowSize = MIN_WINDOW_SIZE;
+    for (var windowStart = from + 1; ; windowStart += windowSize, windowSize = Math.min(2 * windowSize, MAX_WINDOW_SIZE)) {
+      var primes = SegmentedSieve.primesBetween(windowStart, windowStart + windowSize - 1, basePrimes);
+      if (primes.length >= remaining) {
+        return primes[(int) remaining - 1];
+      }
+      remaining -= primes.length;
+    }
+  }
+
+  /*
+   * The k-th prime when counting down from "upUntil" (inclusive)
+   */
+  private static long nthPrimeUpUntil(long upUntil, long k, int[] basePrimes) {
+    var remaining = k;
+    var windowSize = MIN_WINDOW_SIZE;
+    for (var windowEnd = upUntil; ; windowEnd -= windowSize, windowSize = Math.min(2 * windowSize, MAX_WINDOW_SIZE)) {
+      var primes = SegmentedSieve.primesBetween(Math.max(2L, windowEnd - windowSize + 1), windowEnd, basePrimes);
+      if (primes.length >= remaining) {
+        return primes[primes.length - (int) remaining];
+      }
+      remaining -= primes.length;
+    }
+  }
+
+  /*
+   * Cipolla's asymptotic expansion of the n-th prime, clamped between Dusart's bounds (valid for n >= 6):
+   * n * (ln(n) + ln(ln(n)) - 1) < p(n) < n * (ln(n) + ln(ln(n)))
+   */
+  private static long estimate(long n) {
+    var logN = Math.log(n);
+    var logLogN = Math.log(logN);
+    var estimate = (long) (n * (logN + logLogN - 1 + (logLogN - 2) / logN));
+
+    return Math.max(lowerBound(n), Math.min(estimate, upperBound(n)));
+  }
+
+  private static long lowerBound(long n) {
+    var logN = Math.log(n);
+    return (long) (n * (logN + Math.log(logN) - 1));
+  }
+
+  private static long upperBound(long n) {
+    var logN = Math.log(n);
+    return (long) java.lang.Math.ceil(n * (logN + Math.log(logN)));
+  }
+}
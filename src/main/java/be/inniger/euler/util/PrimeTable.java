@@ -0,0 +1,186 @@
+package be.inniger.euler.util;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static java.lang.String.format;
+
+/*
+ * Primitive table of all primes up until (and including) a given number, backed by an odd-only bit set.
+ * Bit "i" of the table represents the odd number "2i + 1" and is set when that number is composite,
+ * the only even prime (2) is handled separately.
+ *
+ * This takes 1 bit per 2 candidates, meaning sieving up until 10^9 fits in roughly 64 MB.
+ * The table is sieved one cache-sized segment at a time, see ParallelSieve to sieve these segments concurrently.
+ */
+public final class PrimeTable {
+
+  // Bits are addressed by int words, capping the limit at 64 * 2 * Integer.MAX_VALUE
+  static final long MAX_LIMIT = 128L * Integer.MAX_VALUE - 1;
+  // 32 KB worth of bits per segment, so the segment being sieved stays in the L1 cache
+  static final int SEGMENT_WORDS = 1 << 12;
+
+  private final long limit;
+  private final long nrBits;
+  private final long[] composites;
+  private final long count;
+
+  PrimeTable(long limit, long[] composites) {
+    this.limit = limit;
+    this.nrBits = nrBits(limit);
+    this.composites = composites;
+    this.count = countPrimes(nrBits, composites);
+  }
+
+  public static PrimeTable primeTable(long upUntil) {
+    var composites = newComposites(upUntil);
+    var basePrimes = basePrimes(upUntil);
+
+    for (var fromWord = 0; fromWord < composites.length; fromWord += SEGMENT_WORDS) {
+      sieveSegment(composites, upUntil, basePrimes, fromWord, Math.min(fromWord + SEGMENT_WORDS, composites.length));
+    }
+
+    return new PrimeTable(upUntil, composites);
+  }
+
+  public long getLimit() {
+    return limit;
+  }
+
+  public boolean isPrime(long number) {
+    if (number > limit) {
+      throw new IllegalArgumentException(format("Number %d lies outside of the table, which only goes up until %d", number, limit));
+    }
+
+    if (number < 2) {
+      return false;
+    }
+
+    return number == 2 || Math.isOdd(number) && !isSet(composites, number >>> 1);
+  }
+
+  /*
+   * Number of primes in the table, also known as "pi(limit)"
+   */
+  public long count() {
+    return count;
+  }
+
+  public int[] toArray() {
+    requireIntRange();
+
+    var primes = new int[(int) count];
+    primes[0] = 2;
+
+    var index = 1;
+    for (var word = 0; word < composites.length; word++) {
+      // Walk over the unset bits of every word, every one of them is a prime
+      for (var primeBits = ~composites[word] & validBits(word); primeBits != 0; primeBits &= primeBits - 1) {
+        primes[index++] = (int) (2 * ((long) word << 6 | Long.numberOfTrailingZeros(primeBits)) + 1);
+      }
+    }
+
+    return primes;
+  }
+
+  public IntStream stream() {
+    requireIntRange();
+
+    return longStream()
+        .mapToInt(Math::toIntExact);
+  }
+
+  public LongStream longStream() {
+    return LongStream.concat(
+        LongStream.of(2),
+        LongStream.range(0, nrBits)
+            .filter(bit -> !isSet(composites, bit))
+            .map(bit -> 2 * bit + 1));
+  }
+
+  private void requireIntRange() {
+    if (limit > Integer.MAX_VALUE) {
+      throw new IllegalStateException(format("Primes up until %d do not all fit into an int, use longStream() instead", limit));
+    }
+  }
+
+  private long validBits(int word) {
+    var remainingBits = nrBits - ((long) word << 6);
+    return remainingBits >= Long.SIZE ? -1L : (1L << remainingBits) - 1;
+  }
+
+  static long[] newComposites(long upUntil) {
+    if (upUntil < 2) {
+      throw new IllegalArgumentException(format("Size %d contains no primes! ", upUntil));
+    }
+    if (upUntil > MAX_LIMIT) {
+      throw new IllegalArgumentException(format("Size %d is too big to fit into a prime table, the maximum is %d", upUntil, MAX_LIMIT));
+    }
+
+    var composites = new long[wordIndex(nrBits(upUntil) - 1) + 1];
+    composites[0] |= 1L; // 1 is not a prime
+    return composites;
+  }
+
+  /*
+   * All odd primes up until sqrt(upUntil), these are the only ones whose multiples need crossing off
+   */
+  static int[] basePrimes(long upUntil) {
+    if (upUntil < 9) {
+      return new int[0];
+    }
+
+    return primeTable(Math.isqrt(upUntil))
+        .stream()
+        .filter(Math::isOdd)
+        .toArray();
+  }
+
+  /*
+   * Cross off the odd multiples of every base prime in the words [fromWord, toWord[.
+   * Segments never share words, so distinct segments can safely be sieved concurrently.
+   */
+  static void sieveSegment(long[] composites, long upUntil, int[] basePrimes, int fromWord, int toWord) {
+    var fromBit = (long) fromWord << 6;
+    var toBit = Math.min((long) toWord << 6, nrBits(upUntil));
+    var firstNumber = 2 * fromBit + 1;
+
+    for (long prime : basePrimes) {
+      if (prime * prime > upUntil) {
+        break;
+      }
+
+      // First odd multiple of the prime inside of the segment, anything below prime^2 was already crossed off by a smaller prime
+      var multiple = Math.max(prime * prime, (firstNumber + prime - 1) / prime * prime);
+      if (Math.isEven(multiple)) {
+        multiple += prime;
+      }
+      // Odd multiples are exactly "prime" bits apart
+      for (var bit = multiple >>> 1; bit < toBit; bit += prime) {
+        composites[wordIndex(bit)] |= 1L << bit;
+      }
+    }
+  }
+
+  private static long nrBits(long upUntil) {
+    return (upUntil - 1) / 2 + 1; // Number of odd numbers in [1, upUntil]
+  }
+
+  private static long countPrimes(long nrBits, long[] composites) {
+    var nrComposites = 0L;
+    for (var word : composites) {
+      nrComposites += Long.bitCount(word);
+    }
+
+    // Bits past the limit are never set, + 1 for the only even prime
+    return 1 + nrBits - nrComposites;
+  }
+
+  private static boolean isSet(long[] bits, long bit) {
+    return (bits[wordIndex(bit)] & (1L << bit)) != 0;
+  }
+
+  private static int wordIndex(long bit) {
+    return (int) (bit >>> 6);
+  }
+}
@@ -0,0 +1,161 @@
+package be.inniger.euler.util;
+
+import java.util.stream.LongStream;
+
+import static java.lang.String.format;
+
+/*
+ * Sieve of Eratosthenes restricted to a window [from, upUntil], only crossing off the multiples of already known base primes.
+ * The base primes need to contain every prime up until sqrt(upUntil) for the result to be correct.
+ */
+final class SegmentedSieve {
+
+  // floor(sqrt(Long.MAX_VALUE)), no base prime beyond this is ever needed
+  static final long MAX_BASE_PRIME = 3_037_000_499L;
+  // Numbers per window when streaming, bounding the memory of primesBetween to 64 KB worth of bits
+  private static final int STREAMING_WINDOW_SIZE = 1 << 20;
+
+  private SegmentedSieve() {
+    throw new IllegalStateException("Utility class constructor should never be called!");
+  }
+
+  /*
+   * Lazily streams all primes in [from, upUntil], sieving one fixed-size window at a time.
+   * Only the primes up until sqrt(upUntil) are sieved up front, as unsigned ints since they can exceed Integer.MAX_VALUE.
+   */
+  static LongStream primesBetween(long from, long upUntil) {
+    if (from > upUntil) {
+      throw new IllegalArgumentException(format("Window [%d, %d] is empty", from, upUntil));
+    }
+    if (upUntil < 2) {
+      return LongStream.empty();
+    }
+
+    var start = Math.max(from, 0L);
+    var root = Math.isqrt(upUntil);
+    var basePrimes = root < 2 ? new int[0] : unsignedBasePrimes(root);
+    var nrWindows = (upUntil - start) / STREAMING_WINDOW_SIZE + 1;
+
+    return LongStream.range(0, nrWindows)
+        .flatMap(window -> {
+          var windowStart = start + window * STREAMING_WINDOW_SIZE;
+          var windowEnd = upUntil - windowStart < STREAMING_WINDOW_SIZE ? upUntil : windowStart + STREAMING_WINDOW_SIZE - 1;
+          return LongStream.of(primesBetween(windowStart, windowEnd, basePrimes));
+        });
+  }
+
+  /*
+   * All primes up until root (at most MAX_BASE_PRIME), stored as unsigned ints in an array of exactly the right size
+   */
+  private static int[] unsignedBasePrimes(long root) {
+    var table = PrimeTable.primeTable(root);
+    var basePrimes = new int[Math.toIntExact(table.count())];
+    var primes = table.longStream().iterator();
+    for (var i = 0; i < basePrimes.length; i++) {
+      basePrimes[i] = (int) primes.nextLong();
+    }
+
+    return basePrimes;
+  }
+
+  static int[] primesBetween(int from, int upUntil, int[] basePrimes, int nrBasePrimes) {
+    var window = sieve(from, upUntil, basePrimes, nrBasePrimes);
+
+    var primes = new int[window.count()];
+    var nrPrimes = 0;
+    if (window.includesTwo) {
+      primes[nrPrimes++] = 2;
+    }
+    for (var bit = 0; bit < window.nrBits; bit++) {
+      if (window.isPrime(bit)) {
+        primes[nrPrimes++] = (int) window.number(bit);
+      }
+    }
+
+    return primes;
+  }
+
+  static long[] primesBetween(long from, long upUntil, int[] basePrimes) {
+    var window = sieve(from, upUntil, basePrimes, basePrimes.length);
+
+    var primes = new long[window.count()];
+    var nrPrimes = 0;
+    if (window.includesTwo) {
+      primes[nrPrimes++] = 2;
+    }
+    for (var bit = 0; bit < window.nrBits; bit++) {
+      if (window.isPrime(bit)) {
+        primes[nrPrimes++] = window.number(bit);
+      }
+    }
+
+    return primes;
+  }
+
+  private static Window sieve(long from, long upUntil, int[] basePrimes, int nrBasePrimes) {
+    if (from > upUntil) {
+      throw new IllegalArgumentException(format("Window [%d, %d] is empty", from, upUntil));
+    }
+
+    var window = new Window(from, upUntil);
+
+    for (var i = 0; i < nrBasePrimes; i++) {
+      var prime = Integer.toUnsignedLong(basePrimes[i]); // Base primes for windows near 2^63 go up until 2^32
+      if (prime == 2) {
+        continue;
+      }
+      if (prime > MAX_BASE_PRIME || prime * prime > upUntil) {
+        break;
+      }
+
+      // First odd multiple of the prime inside of the window, computed as an offset so nothing overflows near Long.MAX_VALUE.
+      // Anything below prime^2 was already crossed off by a smaller prime.
+      var offset = prime * prime >= window.firstOdd ?
+          prime * prime - window.firstOdd :
+          (prime - window.firstOdd % prime) % prime;
+      if (Math.isOdd(offset)) {
+        offset += prime; // firstOdd + offset is even, the next multiple is odd
+      }
+      for (var bit = offset / 2; bit < window.nrBits; bit += prime) {
+        window.composites[(int) (bit >>> 6)] |= 1L << bit;
+      }
+    }
+
+    return window;
+  }
+
+  /*
+   * Odd-only bit set of the window, bit "i" represents the odd number "firstOdd + 2i" and is set when that number is composite
+   */
+  private static class Window {
+
+    private final boolean includesTwo;
+    private final long firstOdd;
+    private final int nrBits;
+    private final long[] composites;
+
+    private Window(long from, long upUntil) {
+      this.includesTwo = from <= 2 && upUntil >= 2;
+      this.firstOdd = Math.max(from, 3L) | 1L;
+      this.nrBits = firstOdd > upUntil ? 0 : Math.toIntExact((upUntil - firstOdd) / 2 + 1);
+      this.composites = new long[(nrBits + 63) >>> 6];
+    }
+
+    private boolean isPrime(int bit) {
+      return (composites[bit >>> 6] & (1L << bit)) == 0;
+    }
+
+    private long number(int bit) {
+      return firstOdd + 2L * bit;
+    }
+
+    private int count() {
+      var nrComposites = 0;
+      for (var word : composites) {
+        nrComposites += Long.bitCount(word);
+      }
+
+      return (includesTwo ? 1 : 0) + nrBits - nrComposites;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package be.inniger.euler.util;
+
+/*
+ * The available sieve backends, all of them yield the exact same primes.
+ * ODD_ONLY stores 1 bit per odd number (see PrimeTable), WHEEL_30 stores 8 bits per 30 numbers (see WheelPrimeTable).
+ */
+public enum SieveMode {
+
+  ODD_ONLY {
+    @Override
+    int[] primesUpUntil(int upUntil) {
+      return PrimeTable.primeTable(upUntil).toArray();
+    }
+
+    @Override
+    int[] primesBetween(int from, int upUntil, int[] basePrimes, int nrBasePrimes) {
+      return SegmentedSieve.primesBetween(from, upUntil, basePrimes, nrBasePrimes);
+    }
+  },
+
+  WHEEL_30 {
+    @Override
+    int[] primesUpUntil(int upUntil) {
+      return WheelPrimeTable.wheelPrimeTable(upUntil).toArray();
+    }
+
+    @Override
+    int[] primesBetween(int from, int upUntil, int[] basePrimes, int nrBasePrimes) {
+      return WheelPrimeTable.primesBetween(from, upUntil, basePrimes, nrBasePrimes);
+    }
+  };
+
+  abstract int[] primesUpUntil(int upUntil);
+
+  /*
+   * All primes in the window [from, upUntil], the base primes need to contain every prime up until sqrt(upUntil)
+   */
+  abstract int[] primesBetween(int from, int upUntil, int[] basePrimes, int nrBasePrimes);
+}
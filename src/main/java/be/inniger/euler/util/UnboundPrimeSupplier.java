@@ -1,57 +1,151 @@
 package be.inniger.euler.util;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static java.lang.String.format;
+
 /*
- * Queryable collection of primes, backed by the sieve, will dynamically grow if more primes are requested
+ * Queryable collection of primes, backed by the sieve, will dynamically grow if more primes are requested.
+ * Instances can be shared between threads, every prime is then handed out exactly once.
+ * Alternatively, every thread can be given a supplier of its own disjoint range of prime indices, which share nothing but the cache.
  */
 public class UnboundPrimeSupplier implements PrimeSupplier {
 
-  private int index = 0;
+  private final UnboundPrimeList primeList;
+  private final AtomicInteger index;
+  private final int toIndex;
 
-  private UnboundPrimeSupplier() {
+  private UnboundPrimeSupplier(UnboundPrimeList primeList, int fromIndex, int toIndex) {
+    this.primeList = primeList;
+    this.index = new AtomicInteger(fromIndex);
+    this.toIndex = toIndex;
   }
 
   public static UnboundPrimeSupplier newInstance() {
-    return new UnboundPrimeSupplier();
+    return newInstance(SieveMode.ODD_ONLY);
+  }
+
+  public static UnboundPrimeSupplier newInstance(SieveMode sieveMode) {
+    return new UnboundPrimeSupplier(UnboundPrimeList.getInstance(sieveMode), 0, Integer.MAX_VALUE);
+  }
+
+  /*
+   * Supplies only the primes with an index in [fromIndex, toIndex[, the prime 2 having index 0.
+   * Throws NoSuchElementException once every prime in the range has been handed out.
+   */
+  public static UnboundPrimeSupplier newInstance(SieveMode sieveMode, int fromIndex, int toIndex) {
+    if (fromIndex < 0 || fromIndex > toIndex) {
+      throw new IllegalArgumentException(format("Range of prime indices [%d, %d[ is invalid", fromIndex, toIndex));
+    }
+
+    return new UnboundPrimeSupplier(UnboundPrimeList.getInstance(sieveMode), fromIndex, toIndex);
   }
 
   @Override
   public int nextPrime() {
-    return UnboundPrimeList.getInstance().getPrime(index++);
+    var nextIndex = index.getAndIncrement();
+    if (nextIndex < 0 || nextIndex >= toIndex) { // Below 0 once the index wrapped around
+      throw new NoSuchElementException(format("All primes up until index %d have been handed out", toIndex));
+    }
+
+    return primeList.getPrime(nextIndex);
   }
 
+  /*
+   * The known primes are published as immutable snapshots through a volatile reference.
+   * Readers only do a single volatile read and never lock, only a reader asking for a prime beyond the current snapshot
+   * takes the lock to grow the list, so there is only ever one grower at a time.
+   * Every sieve mode has its own list, though they all hold the exact same primes.
+   */
   private enum UnboundPrimeList {
 
-    INSTANCE;
+    ODD_ONLY(SieveMode.ODD_ONLY),
+    WHEEL_30(SieveMode.WHEEL_30);
 
     private static final int STARTING_UP_UNTIL_NR = 1000;
 
-    private final Lock lock = new ReentrantLock();
-    private int upUntilNr = STARTING_UP_UNTIL_NR;
-    private List<Integer> primes = Math.getPrimesUpUntil(upUntilNr);
+    private final SieveMode sieveMode;
+    private final Lock growLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    UnboundPrimeList(SieveMode sieveMode) {
+      this.sieveMode = sieveMode;
+      this.snapshot = Snapshot.initial(STARTING_UP_UNTIL_NR, sieveMode);
+    }
 
-    private static UnboundPrimeList getInstance() {
-      return INSTANCE;
+    private static UnboundPrimeList getInstance(SieveMode sieveMode) {
+      return valueOf(sieveMode.name());
     }
 
     private int getPrime(int index) {
-      if (index >= primes.size()) {
-        lock.lock();
-        try {
-          while (index >= primes.size()) {
-            upUntilNr *= 2;
-            primes = Math.getPrimesUpUntil(upUntilNr);
-          }
-
-        } finally {
-          lock.unlock();
+      var current = snapshot;
+
+      return index < current.size ?
+          current.primes[index] :
+          growUntilContains(index).primes[index];
+    }
+
+    private Snapshot growUntilContains(int index) {
+      growLock.lock();
+      try {
+        var current = snapshot;
+        while (index >= current.size) {
+          current = current.grow(sieveMode);
+          snapshot = current;
         }
+
+        return current;
+      } finally {
+        growLock.unlock();
       }
+    }
+  }
+
+  /*
+   * The first "size" entries of "primes" are never written to again once a snapshot is published.
+   * A grown snapshot may append into the spare capacity of the same array, older snapshots never read past their own size,
+   * and the volatile write publishing the new snapshot makes the appended primes visible to every reader that sees it.
+   */
+  private static final class Snapshot {
+
+    private final int upUntilNr;
+    private final int[] primes;
+    private final int size;
+
+    private Snapshot(int upUntilNr, int[] primes, int size) {
+      this.upUntilNr = upUntilNr;
+      this.primes = primes;
+      this.size = size;
+    }
+
+    private static Snapshot initial(int upUntilNr, SieveMode sieveMode) {
+      var primes = sieveMode.primesUpUntil(upUntilNr);
+      return new Snapshot(upUntilNr, primes, primes.length);
+    }
+
+    /*
+     * Double the range of known primes, only sieving the new part "]upUntilNr, 2 * upUntilNr]".
+     * The primes found so far go up until way beyond sqrt(2 * upUntilNr), so they suffice as base primes for this window.
+     */
+    private Snapshot grow(SieveMode sieveMode) {
+      if (upUntilNr == Integer.MAX_VALUE) {
+        throw new IllegalStateException("Ran out of primes that fit into an int");
+      }
+
+      var newUpUntilNr = (int) Math.min(2L * upUntilNr, Integer.MAX_VALUE);
+      var newPrimes = sieveMode.primesBetween(upUntilNr + 1, newUpUntilNr, primes, size);
+      var newSize = size + newPrimes.length;
+
+      var grownPrimes = newSize > primes.length ?
+          Arrays.copyOf(primes, Math.max(2 * primes.length, newSize)) :
+          primes;
+      System.arraycopy(newPrimes, 0, grownPrimes, size, newPrimes.length);
 
-      return primes.get(index);
+      return new Snapshot(newUpUntilNr, grownPrimes, newSize);
     }
   }
 }
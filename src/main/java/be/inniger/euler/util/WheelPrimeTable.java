@@ -0,0 +1,255 @@
+package be.inniger.euler.util;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static java.lang.String.format;
+
+/*
+ * Primitive table of all primes up until (and including) a given number, backed by a mod-30 wheel.
+ * Only the 8 residues modulo 30 that are coprime to 2, 3 and 5 can be prime (besides 2, 3 and 5 themselves),
+ * so byte "k" of the table holds one bit for each of the numbers "30k + r" with r in RESIDUES, set when that number is composite.
+ *
+ * This takes 8 bits per 30 candidates, about 47% less memory than an odd-only table, and never crosses off multiples of 2, 3 or 5.
+ * Details here: https://en.wikipedia.org/wiki/Wheel_factorization
+ */
+public final class WheelPrimeTable {
+
+  private static final int WHEEL = 30;
+  private static final int[] RESIDUES = {1, 7, 11, 13, 17, 19, 23, 29};
+  private static final int[] WHEEL_PRIMES = {2, 3, 5};
+  // Bit representing a residue modulo 30, -1 if no number with that residue (besides 2, 3 and 5) can be prime
+  private static final int[] BIT_OF_RESIDUE = new int[WHEEL];
+  // Bytes addressed by int indices, capping the limit at 30 * Integer.MAX_VALUE
+  private static final long MAX_LIMIT = (long) WHEEL * Integer.MAX_VALUE - 1;
+  // 32 KB worth of bytes per segment, so the segment being sieved stays in the L1 cache
+  private static final int SEGMENT_BYTES = 1 << 15;
+
+  static {
+    Arrays.fill(BIT_OF_RESIDUE, -1);
+    for (var bit = 0; bit < RESIDUES.length; bit++) {
+      BIT_OF_RESIDUE[RESIDUES[bit]] = bit;
+    }
+  }
+
+  private final long limit;
+  private final byte[] composites;
+  private final long count;
+
+  private WheelPrimeTable(long limit, byte[] composites) {
+    this.limit = limit;
+    this.composites = composites;
+    this.count = countPrimes();
+  }
+
+  public static WheelPrimeTable wheelPrimeTable(long upUntil) {
+    if (upUntil < 2) {
+      throw new IllegalArgumentException(format("Size %d contains no primes! ", upUntil));
+    }
+    if (upUntil > MAX_LIMIT) {
+      throw new IllegalArgumentException(format("Size %d is too big to fit into a wheel prime table, the maximum is %d", upUntil, MAX_LIMIT));
+    }
+
+    var composites = sieve(0, upUntil / WHEEL, upUntil, PrimeTable.basePrimes(upUntil), Integer.MAX_VALUE);
+    return new WheelPrimeTable(upUntil, composites);
+  }
+
+  /*
+   * All primes in the window [from, upUntil], the base primes need to contain every prime up until sqrt(upUntil)
+   */
+  static int[] primesBetween(int from, int upUntil, int[] basePrimes, int nrBasePrimes) {
+    if (from > upUntil) {
+      throw new IllegalArgumentException(format("Window [%d, %d] is empty", from, upUntil));
+    }
+
+    var firstByte = Math.max(from, 0) / WHEEL;
+    var composites = sieve(firstByte, upUntil / WHEEL, upUntil, basePrimes, nrBasePrimes);
+
+    return primes(composites, firstByte, from, upUntil);
+  }
+
+  public long getLimit() {
+    return limit;
+  }
+
+  public boolean isPrime(long number) {
+    if (number > limit) {
+      throw new IllegalArgumentException(format("Number %d lies outside of the table, which only goes up until %d", number, limit));
+    }
+
+    if (number < 2) {
+      return false;
+    }
+    if (number == 2 || number == 3 || number == 5) {
+      return true;
+    }
+
+    var bit = BIT_OF_RESIDUE[(int) (number % WHEEL)];
+    return bit != -1 && (composites[(int) (number / WHEEL)] & (1 << bit)) == 0;
+  }
+
+  /*
+   * Number of primes in the table, also known as "pi(limit)"
+   */
+  public long count() {
+    return count;
+  }
+
+  public int[] toArray() {
+    requireIntRange();
+
+    var primes = new int[(int) count];
+    var index = 0;
+    for (var prime : WHEEL_PRIMES) {
+      if (prime <= limit) {
+        primes[index++] = prime;
+      }
+    }
+    for (var b = 0; b < composites.length; b++) {
+      for (var primeBits = validBits(b, 0, limit) & ~composites[b]; primeBits != 0; primeBits &= primeBits - 1) {
+        primes[index++] = WHEEL * b + RESIDUES[Integer.numberOfTrailingZeros(primeBits)];
+      }
+    }
+
+    return primes;
+  }
+
+  public IntStream stream() {
+    requireIntRange();
+
+    return longStream()
+        .mapToInt(Math::toIntExact);
+  }
+
+  /*
+   * Streams the primes straight from the table, bit "8k + i" standing for the number "30k + RESIDUES[i]"
+   */
+  public LongStream longStream() {
+    return LongStream.concat(
+        IntStream.of(WHEEL_PRIMES)
+            .filter(prime -> prime <= limit)
+            .asLongStream(),
+        LongStream.range(0, (long) Byte.SIZE * composites.length)
+            .filter(bit -> (composites[(int) (bit >>> 3)] & (1 << (bit & 7))) == 0)
+            .map(bit -> WHEEL * (bit >>> 3) + RESIDUES[(int) (bit & 7)])
+            .filter(number -> number > 1 && number <= limit));
+  }
+
+  private void requireIntRange() {
+    if (limit > Integer.MAX_VALUE) {
+      throw new IllegalStateException(format("Primes up until %d do not all fit into an int, use longStream() instead", limit));
+    }
+  }
+
+  private long countPrimes() {
+    var nrPrimes = IntStream.of(WHEEL_PRIMES)
+        .filter(prime -> prime <= limit)
+        .count();
+    for (var b = 0; b < composites.length; b++) {
+      nrPrimes += Integer.bitCount(validBits(b, 0, limit) & ~composites[b]);
+    }
+
+    return nrPrimes;
+  }
+
+  /*
+   * All primes in [from, upUntil] in ascending order, the bytes starting at firstByte.
+   * Every byte's prime bits are walked by clearing the lowest one in turn, just like toArray() does.
+   */
+  private static int[] primes(byte[] composites, int firstByte, int from, int upUntil) {
+    var nrPrimes = 0;
+    for (var prime : WHEEL_PRIMES) {
+      if (prime >= from && prime <= upUntil) {
+        nrPrimes++;
+      }
+    }
+    for (var b = 0; b < composites.length; b++) {
+      nrPrimes += Integer.bitCount(validBits(b, firstByte, upUntil) & ~composites[b]);
+    }
+
+    var primes = new int[nrPrimes];
+    var index = 0;
+    for (var prime : WHEEL_PRIMES) {
+      if (prime >= from && prime <= upUntil) {
+        primes[index++] = prime;
+      }
+    }
+    for (var b = 0; b < composites.length; b++) {
+      for (var primeBits = validBits(b, firstByte, upUntil) & ~composites[b]; primeBits != 0; primeBits &= primeBits - 1) {
+        var prime = WHEEL * (long) (firstByte + b) + RESIDUES[Integer.numberOfTrailingZeros(primeBits)];
+        if (prime >= from) {
+          primes[index++] = (int) prime;
+        } else {
+          nrPrimes--; // Only the first byte of a window can start below from
+        }
+      }
+    }
+
+    return nrPrimes == primes.length ? primes : Arrays.copyOf(primes, nrPrimes);
+  }
+
+  /*
+   * Mask of the bits of a byte that represent numbers in [2, upUntil]
+   */
+  private static int validBits(int b, long firstByte, long upUntil) {
+    var base = WHEEL * (firstByte + b);
+    if (base > 1 && base + WHEEL <= upUntil) {
+      return 0xFF; // Only the first and the last byte are ever partially valid
+    }
+
+    var valid = 0;
+    for (var bit = 0; bit < RESIDUES.length; bit++) {
+      var number = base + RESIDUES[bit];
+      if (number > 1 && number <= upUntil) {
+        valid |= 1 << bit;
+      }
+    }
+
+    return valid;
+  }
+
+  /*
+   * Sieves the bytes [firstByte, lastByte] one cache-sized segment at a time
+   */
+  private static byte[] sieve(long firstByte, long lastByte, long upUntil, int[] basePrimes, int nrBasePrimes) {
+    var composites = new byte[Math.toIntExact(lastByte - firstByte + 1)];
+
+    for (var fromByte = firstByte; fromByte <= lastByte; fromByte += SEGMENT_BYTES) {
+      sieveSegment(composites, firstByte, fromByte, Math.min(fromByte + SEGMENT_BYTES, lastByte + 1), upUntil, basePrimes, nrBasePrimes);
+    }
+
+    return composites;
+  }
+
+  /*
+   * Every multiple "p * m" that is still on the wheel has m on the wheel as well.
+   * For every one of the 8 residues of m, the multiples "p * (m + 30q)" all share one bit and lie exactly p bytes apart.
+   * Starting from m >= p skips everything below p^2, which a smaller prime already crossed off.
+   */
+  private static void sieveSegment(byte[] composites, long firstByte, long fromByte, long toByte, long upUntil,
+                                   int[] basePrimes, int nrBasePrimes) {
+    var firstNumber = WHEEL * fromByte;
+
+    for (var i = 0; i < Math.min(nrBasePrimes, basePrimes.length); i++) {
+      long prime = basePrimes[i];
+      if (prime < 7) {
+        continue; // Multiples of 2, 3 and 5 are not on the wheel
+      }
+      if (prime * prime > upUntil) {
+        break;
+      }
+
+      var minMultiplier = Math.max(prime, (firstNumber + prime - 1) / prime);
+      for (var residue : RESIDUES) {
+        var multiplier = minMultiplier + Math.floorMod(residue - minMultiplier, WHEEL);
+        var multiple = prime * multiplier;
+        var mask = (byte) (1 << BIT_OF_RESIDUE[(int) (multiple % WHEEL)]);
+
+        for (var b = multiple / WHEEL; b < toByte; b += prime) {
+          composites[(int) (b - firstByte)] |= mask;
+        }
+      }
+    }
+  }
+}
@@ -10,19 +10,19 @@ import java.util.Objects;
  */
 public final class Factor {
 
-  private final int prime;
+  private final long prime;
   private final int exponent;
 
-  private Factor(int prime, int exponent) {
+  private Factor(long prime, int exponent) {
     this.prime = prime;
     this.exponent = exponent;
   }
 
-  public static Factor factor(int prime, int exponent) {
+  public static Factor factor(long prime, int exponent) {
     return new Factor(prime, exponent);
   }
 
-  public int getPrime() {
+  public long getPrime() {
     return prime;
   }
 
@@ -33,7 +33,7 @@ public final class Factor {
   /*
    * Returns the total value this one factor contributes to the number
    */
-  public int getValue() {
+  public long getValue() {
     return Math.pow(prime, exponent);
   }
 
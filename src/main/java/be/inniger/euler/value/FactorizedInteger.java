@@ -1,62 +1,285 @@
 package be.inniger.euler.value;
 
-import be.inniger.euler.util.PrimeSupplier;
+import be.inniger.euler.util.PollardRho;
+import be.inniger.euler.util.SmallestPrimeFactorTable;
 import be.inniger.euler.util.UnboundPrimeSupplier;
 
-import java.util.Map;
+import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.function.LongConsumer;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static be.inniger.euler.util.Math.abs;
+import static be.inniger.euler.util.Math.multiply;
 import static be.inniger.euler.util.Math.pow;
+import static be.inniger.euler.util.SmallestPrimeFactorTable.smallestPrimeFactorTable;
 import static be.inniger.euler.value.Factor.factor;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toUnmodifiableMap;
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
 
 /*
  * Abstraction used to represent a factorized integer.
  * E.g.: the integer 20 factorizes into "2^2 * 5^1".
+ *
+ * The factors are stored as two parallel primitive arrays, the primes in ascending order and their exponents.
+ * Every exponent of a long fits into a byte, the biggest one being the 62 of 2^62.
  */
 public final class FactorizedInteger {
 
-  private final int value;
-  private final int absValue;
-  private final Map<Integer, Factor> factors;
+  private static final long[] NO_PRIMES = new long[0];
+  private static final byte[] NO_EXPONENTS = new byte[0];
+  // 2 * 3 * 5 * 7 * 11 * 13 * 17 * 19 * 23 * 29 exceeds 2^31, so no int has more than 9 distinct prime factors
+  private static final int MAX_NR_INT_PRIMES = 9;
 
-  private FactorizedInteger(int value, PrimeSupplier primes) {
+  private final long value;
+  private final long[] primes;
+  private final byte[] exponents;
+
+  private FactorizedInteger(long value, long[] primes, byte[] exponents) {
     this.value = value;
-    this.absValue = abs(value);
-    this.factors = primes.asStream()
-        .takeWhile(prime -> prime <= absValue)
-        .mapToObj(this::getFactor)
-        .flatMap(Optional::stream)
-        .collect(toUnmodifiableMap(
-            Factor::getPrime,
-            identity()));
+    this.primes = primes;
+    this.exponents = exponents;
   }
 
+  /*
+   * Trial division by consecutive primes, stopping as soon as the prime squared exceeds the remaining cofactor.
+   * That cofactor then has no prime factor up until its square root, so it is either 1 or prime itself.
+   * This costs at most pi(sqrt(n)) divisions, e.g. for 2 times a large prime, rather than pi(n).
+   */
   public static FactorizedInteger factorizedInteger(int value) {
-    return new FactorizedInteger(value, UnboundPrimeSupplier.newInstance());
+    var remainder = abs((long) value); // Also covers the absolute value of Integer.MIN_VALUE
+    var primes = new long[MAX_NR_INT_PRIMES];
+    var exponents = new byte[MAX_NR_INT_PRIMES];
+    var nrPrimes = 0;
+
+    var primeSupplier = UnboundPrimeSupplier.newInstance();
+    for (long prime = primeSupplier.nextPrime(); prime * prime <= remainder; prime = primeSupplier.nextPrime()) {
+      if (remainder % prime != 0) {
+        continue;
+      }
+
+      primes[nrPrimes] = prime;
+      do {
+        remainder /= prime;
+        exponents[nrPrimes]++;
+      } while (remainder % prime == 0);
+      nrPrimes++;
+    }
+
+    if (remainder > 1) {
+      primes[nrPrimes] = remainder;
+      exponents[nrPrimes] = 1;
+      nrPrimes++;
+    }
+
+    return new FactorizedInteger(value, Arrays.copyOf(primes, nrPrimes), Arrays.copyOf(exponents, nrPrimes));
+  }
+
+  /*
+   * Factorizes 64-bit values through trial division, Miller-Rabin and Pollard's rho (see PollardRho),
+   * rather than trying every prime up until the value.
+   */
+  public static FactorizedInteger factorizedInteger(long value) {
+    if (value == Long.MIN_VALUE) {
+      throw new IllegalArgumentException("The absolute value of Long.MIN_VALUE cannot be represented as a Long");
+    }
+
+    var absValue = abs(value);
+    var primeFactors = absValue == 0 ? NO_PRIMES : PollardRho.primeFactors(absValue);
+
+    // The prime factors are sorted, so every distinct prime is one run of equal values
+    var nrPrimes = 0;
+    for (var i = 0; i < primeFactors.length; i++) {
+      if (i == 0 || primeFactors[i] != primeFactors[i - 1]) {
+        nrPrimes++;
+      }
+    }
+
+    var primes = new long[nrPrimes];
+    var exponents = new byte[nrPrimes];
+    var index = -1;
+    for (var i = 0; i < primeFactors.length; i++) {
+      if (i == 0 || primeFactors[i] != primeFactors[i - 1]) {
+        primes[++index] = primeFactors[i];
+      }
+      exponents[index]++;
+    }
+
+    return new FactorizedInteger(value, primes, exponents);
   }
 
-  private Optional<Factor> getFactor(int prime) {
-    // Calculate how many times a given prime "fits" in a number, 
-    // the first time "nr times it fits + 1" is no fit, the answer is found!
-    var exponent = absValue % prime != 0 ?
-        0 :
-        IntStream.iterate(1, be.inniger.euler.util.Math::inc)
-            .dropWhile(i -> absValue % pow(prime, i + 1) == 0)
-            .findFirst()
-            .orElseThrow();
-    return exponent != 0 ?
-        Optional.of(factor(prime, exponent)) :
-        Optional.empty();
+  /*
+   * Factorizes any value within the range of a long, like factorizedInteger(long) does
+   */
+  public static FactorizedInteger factorizedInteger(BigInteger value) {
+    if (value.bitLength() >= Long.SIZE) {
+      throw new IllegalArgumentException(format("Can only factorize values within the range of a Long, got %s", value));
+    }
+
+    return factorizedInteger(value.longValue());
   }
 
+  /*
+   * Factorizes a value in O(log(n)) by repeatedly dividing out its smallest prime factor, looked up in the given table.
+   * The absolute value has to lie within the table.
+   */
+  public static FactorizedInteger factorizedInteger(int value, SmallestPrimeFactorTable table) {
+    var absValue = abs(value);
+    if (absValue < 2) {
+      return new FactorizedInteger(value, NO_PRIMES, NO_EXPONENTS);
+    }
+
+    // Walk the table twice, first to size the arrays exactly and then to fill them, allocating nothing else
+    var nrPrimes = 0;
+    for (var remainder = absValue; remainder > 1; nrPrimes++) {
+      var prime = table.smallestPrimeFactor(remainder);
+      while (remainder % prime == 0) {
+        remainder /= prime;
+      }
+    }
+
+    var primes = new long[nrPrimes];
+    var exponents = new byte[nrPrimes];
+    var remainder = absValue;
+    for (var i = 0; i < nrPrimes; i++) {
+      var prime = table.smallestPrimeFactor(remainder);
+      primes[i] = prime;
+      while (remainder % prime == 0) {
+        remainder /= prime;
+        exponents[i]++;
+      }
+    }
+
+    return new FactorizedInteger(value, primes, exponents);
+  }
+
+  /*
+   * Factorizes every value in [from, upUntil] in ascending order, all sharing one smallest prime factor table
+   */
+  public static Stream<FactorizedInteger> factorizeRange(int from, int upUntil) {
+    if (from < 1 || from > upUntil) {
+      throw new IllegalArgumentException(format("Can only factorize a non-empty range of positive values, got [%d, %d]", from, upUntil));
+    }
+
+    var table = smallestPrimeFactorTable(Math.max(upUntil, 2));
+    return IntStream.rangeClosed(from, upUntil)
+        .mapToObj(value -> factorizedInteger(value, table));
+  }
+
+  /*
+   * Lazily creates one Factor per prime, prefer forEachFactor in hot loops
+   */
   public Stream<Factor> getFactors() {
-    return factors.values().stream();
+    return IntStream.range(0, primes.length)
+        .mapToObj(i -> factor(primes[i], exponents[i]));
+  }
+
+  public void forEachFactor(FactorConsumer action) {
+    for (var i = 0; i < primes.length; i++) {
+      action.accept(primes[i], exponents[i]);
+    }
+  }
+
+  /*
+   * Number of divisors "d(n)" of the absolute value, e.g. 12 has 6 divisors: 1, 2, 3, 4, 6 and 12
+   */
+  public long divisorCount() {
+    requireNonZero();
+
+    var divisorCount = 1L;
+    for (var exponent : exponents) {
+      divisorCount *= exponent + 1;
+    }
+
+    return divisorCount;
+  }
+
+  /*
+   * Sum of the k-th powers of all divisors "sigma_k(n)" of the absolute value, sigma_0 is the number of divisors.
+   * Multiplicative, so it is the product of "1 + p^k + p^2k + ... + p^ek" over all factors "p^e".
+   * Throws ArithmeticException when the result does not fit into a long.
+   */
+  public long sigma(int k) {
+    if (k < 0) {
+      throw new IllegalArgumentException(format("Can only sum non-negative powers of divisors, got %d", k));
+    }
+    requireNonZero();
+
+    var sigma = 1L;
+    for (var i = 0; i < primes.length; i++) {
+      var primeToTheK = pow(primes[i], k);
+      var term = 1L;
+      var sum = 1L;
+      for (var e = 0; e < exponents[i]; e++) {
+        term = multiply(term, primeToTheK);
+        sum = java.lang.Math.addExact(sum, term);
+      }
+      sigma = multiply(sigma, sum);
+    }
+
+    return sigma;
+  }
+
+  /*
+   * Walks all divisors of the absolute value, in no particular order, without creating any objects.
+   * Every prime's exponent is counted up like the digit of an odometer, one recursion level per prime.
+   */
+  public void forEachDivisor(LongConsumer action) {
+    requireNonZero();
+    forEachDivisor(0, 1L, action);
+  }
+
+  /*
+   * Writes all divisors of the absolute value into the buffer in ascending order, returns how many were written.
+   * The buffer has to hold at least divisorCount() numbers, and can be reused between calls.
+   */
+  public int divisors(long[] buffer) {
+    var divisorCount = divisorCount();
+    if (buffer.length < divisorCount) {
+      throw new IllegalArgumentException(format("Buffer of size %d cannot hold all %d divisors of %d", buffer.length, divisorCount, value));
+    }
+
+    var nrDivisors = fillDivisors(0, 1L, buffer, 0);
+    Arrays.sort(buffer, 0, nrDivisors);
+    return nrDivisors;
+  }
+
+  private void forEachDivisor(int index, long divisor, LongConsumer action) {
+    if (index == primes.length) {
+      action.accept(divisor);
+      return;
+    }
+
+    for (var exponent = 0; ; exponent++) {
+      forEachDivisor(index + 1, divisor, action);
+      if (exponent == exponents[index]) {
+        return;
+      }
+      divisor *= primes[index];
+    }
+  }
+
+  private int fillDivisors(int index, long divisor, long[] buffer, int position) {
+    if (index == primes.length) {
+      buffer[position] = divisor;
+      return position + 1;
+    }
+
+    for (var exponent = 0; ; exponent++) {
+      position = fillDivisors(index + 1, divisor, buffer, position);
+      if (exponent == exponents[index]) {
+        return position;
+      }
+      divisor *= primes[index];
+    }
+  }
+
+  private void requireNonZero() {
+    if (value == 0) {
+      throw new IllegalStateException("Every integer divides 0");
+    }
   }
 
   @Override
@@ -76,7 +299,18 @@ public final class FactorizedInteger {
   public String toString() {
     return "FactorizedInteger{" +
         "value=" + value +
-        ", factors=" + factors +
+        ", factors=" + getFactors()
+        .map(factor -> factor.getPrime() + "=" + factor)
+        .collect(joining(", ", "{", "}")) +
         '}';
   }
+
+  /*
+   * Receives every prime of a factorization together with its exponent, without boxing either one
+   */
+  @FunctionalInterface
+  public interface FactorConsumer {
+
+    void accept(long prime, int exponent);
+  }
 }
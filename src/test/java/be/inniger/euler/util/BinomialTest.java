@@ -0,0 +1,106 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static be.inniger.euler.util.Binomial.binomial;
+import static be.inniger.euler.util.Binomial.modularTable;
+import static be.inniger.euler.util.Binomial.pascalRow;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BinomialTest {
+
+  @Test
+  public void canCalculateBinomials() {
+    assertEquals(1, binomial(0, 0));
+    assertEquals(0, binomial(5, -1));
+    assertEquals(0, binomial(5, 6));
+    assertEquals(10, binomial(5, 2));
+    assertEquals(137_846_528_820L, binomial(40, 20));
+    assertEquals(7_219_428_434_016_265_740L, binomial(66, 33));
+    assertEquals(57_963_796_707_857_040L, binomial(67, 20));
+    assertEquals(2_283_896_214_600L, binomial(200, 7));
+    assertEquals(1_000_000_000_000L, binomial(1_000_000_000_000L, 1));
+  }
+
+  @Test
+  public void agreesWithFactorials() {
+    for (var n = 0; n <= 120; n++) {
+      for (var k = 0; k <= n; k++) {
+        var expected = Math.factorial(n).divide(Math.factorial(k).multiply(Math.factorial(n - k)));
+        if (expected.bitLength() < Long.SIZE) {
+          assertEquals(expected.longValueExact(), binomial(n, k), "Mismatch for C(" + n + ", " + k + ")");
+        } else {
+          var row = n;
+          var column = k;
+          assertThrows(ArithmeticException.class, () -> binomial(row, column));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void canGetPascalRows() {
+    assertArrayEquals(new long[]{1}, pascalRow(0));
+    assertArrayEquals(new long[]{1, 4, 6, 4, 1}, pascalRow(4));
+    assertEquals(7_219_428_434_016_265_740L, pascalRow(66)[33]);
+  }
+
+  @Test
+  public void throwsOnOverflowingPascalRow() {
+    assertThrows(ArithmeticException.class,
+        () -> pascalRow(67));
+  }
+
+  @Test
+  public void modifyingARowLeavesTheCacheIntact() {
+    pascalRow(10)[5] = 0;
+
+    assertEquals(252, pascalRow(10)[5]);
+  }
+
+  @Test
+  public void canCalculateBinomialsModuloAPrime() {
+    var table = modularTable(1_000_000_007, 2_000_000);
+
+    assertEquals(538_992_043, table.binomial(100, 50));
+    assertEquals(192_151_600, table.binomial(2_000_000, 1_000_000)); // Lattice paths through a 10^6 x 10^6 grid
+    assertEquals(0, table.binomial(10, 11));
+  }
+
+  @Test
+  public void canCalculateBinomialsBeyondTheTableThroughLucas() {
+    var table = modularTable(13, 1_000);
+
+    for (var n = 0; n <= 300; n++) {
+      for (var k = 0; k <= n; k++) {
+        var expected = Math.factorial(n).divide(Math.factorial(k).multiply(Math.factorial(n - k))).mod(BigInteger.valueOf(13));
+        assertEquals(expected.longValueExact(), table.binomial(n, k), "Mismatch for C(" + n + ", " + k + ")");
+      }
+    }
+    assertEquals(497_374, modularTable(1_000_003, 100_000).binomial(100_000, 30_000));
+  }
+
+  @Test
+  public void throwsOnNonPrimeModulus() {
+    assertThrows(IllegalArgumentException.class,
+        () -> modularTable(1_000_000_000, 100));
+  }
+
+  @Test
+  public void throwsOnTableTooSmallForLucas() {
+    var table = modularTable(1_000_000_007, 100);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> table.binomial(101, 50));
+  }
+
+  @Test
+  public void throwsOnNegativeNumberOfElements() {
+    assertThrows(IllegalArgumentException.class,
+        () -> binomial(-1, 0));
+  }
+}
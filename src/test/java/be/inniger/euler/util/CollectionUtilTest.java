@@ -9,6 +9,7 @@ import java.util.Set;
 import static be.inniger.euler.util.CollectionUtil.getSingleElement;
 import static be.inniger.euler.util.CollectionUtil.lastIndex;
 import static be.inniger.euler.util.CollectionUtil.readProblemDataAndTransform;
+import static be.inniger.euler.util.CollectionUtil.readProblemDataBytesAndTransform;
 import static be.inniger.euler.util.CollectionUtil.reverseStream;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toUnmodifiableList;
@@ -33,6 +34,11 @@ public class CollectionUtilTest {
     assertEquals("Hello,World", readProblemDataAndTransform(new TestProblem(), lines -> lines.collect(joining(","))));
   }
 
+  @Test
+  public void canReadProblemDataBytesAndTransform() {
+    assertEquals("Hello\nWorld", readProblemDataBytesAndTransform(new TestProblem(), bytes -> new String(bytes.readAllBytes()).strip()));
+  }
+
   @Test
   public void canGetSingleElement() {
     assertEquals(42, getSingleElement(List.of(42)).intValue());
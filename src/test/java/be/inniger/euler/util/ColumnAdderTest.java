@@ -0,0 +1,73 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static be.inniger.euler.util.ColumnAdder.columnAdder;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ColumnAdderTest {
+
+  @Test
+  public void canAddNumbers() {
+    assertEquals(BigInteger.ZERO, columnAdder().sum());
+    assertEquals(BigInteger.ZERO, columnAdder().add("000").sum());
+    assertEquals(BigInteger.valueOf(1_000_000_000L), columnAdder().add("999999999").add("1").sum());
+    assertEquals(new BigInteger("1000000000000000000000000000"), columnAdder()
+        .add("999999999999999999999999999")
+        .add("0000000000000000000000000000000000001")
+        .sum());
+  }
+
+  @Test
+  public void canGetTheLeadingDigits() {
+    var adder = columnAdder()
+        .add("37107287533902102798797998220837590246510135740250")
+        .add("46376937677490009712648124896970078050417018260538");
+
+    assertEquals("83484225211392112511446123117807668296927154000788", adder.sum().toString());
+    assertEquals("8348422521", adder.leadingDigits(10));
+    assertEquals("8", adder.leadingDigits(1));
+    assertEquals(adder.sum().toString(), adder.leadingDigits(1_000));
+    assertEquals("0", columnAdder().leadingDigits(10));
+  }
+
+  @Test
+  public void agreesWithBigIntegerAddition() throws IOException {
+    var random = new Random(42L);
+    var expected = BigInteger.ZERO;
+    var input = new StringBuilder();
+    for (var i = 0; i < 10_000; i++) {
+      var number = new BigInteger(random.nextInt(400), random);
+      expected = expected.add(number);
+      input.append(number).append(i % 2 == 0 ? "\n" : "\r\n");
+    }
+
+    var adder = columnAdder().addAll(new ByteArrayInputStream(input.toString().getBytes(US_ASCII)));
+    assertEquals(10_000, adder.getCount());
+    assertEquals(expected, adder.sum());
+    assertEquals(expected.toString().substring(0, 10), adder.leadingDigits(10));
+
+    // Adding more after a sum carries on from there
+    adder.add("1");
+    assertEquals(expected.add(BigInteger.ONE), adder.sum());
+  }
+
+  @Test
+  public void throwsOnAnythingButDigits() {
+    assertThrows(IllegalArgumentException.class,
+        () -> columnAdder().add("-1"));
+    assertThrows(IllegalArgumentException.class,
+        () -> columnAdder().add(""));
+    assertThrows(IllegalArgumentException.class,
+        () -> columnAdder().addAll(new ByteArrayInputStream("12\n3x4\n".getBytes(US_ASCII))));
+    assertThrows(IllegalArgumentException.class,
+        () -> columnAdder().leadingDigits(0));
+  }
+}
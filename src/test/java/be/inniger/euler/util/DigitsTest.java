@@ -0,0 +1,83 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static be.inniger.euler.util.Digits.digitCount;
+import static be.inniger.euler.util.Digits.digitHistogram;
+import static be.inniger.euler.util.Digits.digitSum;
+import static be.inniger.euler.util.Digits.limbs;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DigitsTest {
+
+  private static final BigInteger LIMB_BASE = BigInteger.TEN.pow(18);
+
+  @Test
+  public void canSplitIntoLimbs() {
+    assertArrayEquals(new long[]{0L}, limbs(BigInteger.ZERO));
+    assertArrayEquals(new long[]{123L}, limbs(BigInteger.valueOf(-123L)));
+    assertArrayEquals(new long[]{999_999_999_999_999_999L}, limbs(LIMB_BASE.subtract(BigInteger.ONE)));
+    assertArrayEquals(new long[]{0L, 1L}, limbs(LIMB_BASE));
+    assertArrayEquals(new long[]{223_372_036_854_775_807L, 9L}, limbs(BigInteger.valueOf(Long.MAX_VALUE)));
+  }
+
+  @Test
+  public void canSumDigits() {
+    assertEquals(0, digitSum(BigInteger.ZERO));
+    assertEquals(26, digitSum(BigInteger.valueOf(32_768L)));
+    assertEquals(26, digitSum(BigInteger.valueOf(-32_768L)));
+    assertEquals(27, digitSum(Math.factorial(10)));
+    assertEquals(1, digitSum(LIMB_BASE.pow(100)));
+  }
+
+  @Test
+  public void canCountDigits() {
+    assertEquals(1, digitCount(BigInteger.ZERO));
+    assertEquals(5, digitCount(BigInteger.valueOf(-32_768L)));
+    assertEquals(18, digitCount(LIMB_BASE.subtract(BigInteger.ONE)));
+    assertEquals(19, digitCount(LIMB_BASE));
+    assertEquals(1801, digitCount(LIMB_BASE.pow(100)));
+  }
+
+  @Test
+  public void canCountEveryDigit() {
+    assertArrayEquals(new long[]{1, 0, 0, 0, 0, 0, 0, 0, 0, 0}, digitHistogram(BigInteger.ZERO));
+    assertArrayEquals(new long[]{2, 0, 1, 1, 0, 0, 1, 0, 2, 0}, digitHistogram(Math.factorial(10)));
+    assertArrayEquals(new long[]{1800, 1, 0, 0, 0, 0, 0, 0, 0, 0}, digitHistogram(LIMB_BASE.pow(100)));
+  }
+
+  @Test
+  public void agreesWithStringRepresentation() {
+    var random = new Random(42L);
+    for (var i = 0; i < 200; i++) {
+      var number = new BigInteger(random.nextInt(20_000) + 1, random);
+      assertAgreesWithString(number);
+      assertAgreesWithString(number.negate());
+    }
+
+    // Numbers right around the powers that split them
+    for (var k = 0; k <= 8; k++) {
+      var power = LIMB_BASE.pow(1 << k);
+      assertAgreesWithString(power);
+      assertAgreesWithString(power.subtract(BigInteger.ONE));
+      assertAgreesWithString(power.multiply(power).subtract(BigInteger.ONE));
+    }
+
+    assertAgreesWithString(Math.factorial(20_000));
+  }
+
+  private static void assertAgreesWithString(BigInteger number) {
+    var digits = number.abs().toString();
+
+    var histogram = new long[10];
+    digits.chars().forEach(digit -> histogram[digit - '0']++);
+
+    assertEquals(digits.chars().map(digit -> digit - '0').sum(), digitSum(number));
+    assertEquals(digits.length(), digitCount(number));
+    assertArrayEquals(histogram, digitHistogram(number));
+  }
+}
@@ -0,0 +1,90 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import static be.inniger.euler.util.DivisorSieve.divisorSieve;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DivisorSieveTest {
+
+  @Test
+  public void canGetDivisorFunctions() {
+    var sieve = divisorSieve(300);
+
+    assertEquals(1, sieve.divisorCount(1));
+    assertEquals(1, sieve.divisorSum(1));
+    assertEquals(0, sieve.properDivisorSum(1));
+    assertEquals(2, sieve.divisorCount(7));
+    assertEquals(6, sieve.divisorCount(12));
+    assertEquals(28, sieve.divisorSum(12));
+    assertEquals(16, sieve.properDivisorSum(12));
+    assertEquals(28, sieve.properDivisorSum(28));
+    assertEquals(284, sieve.properDivisorSum(220));
+    assertEquals(220, sieve.properDivisorSum(284));
+  }
+
+  @Test
+  public void agreesWithTrialDivision() {
+    var sieve = divisorSieve(20_000);
+
+    for (var n = 1; n <= 20_000; n++) {
+      var divisorCount = 0;
+      var divisorSum = 0L;
+      for (var d = 1; d * d <= n; d++) {
+        if (n % d == 0) {
+          divisorCount += d * d == n ? 1 : 2;
+          divisorSum += d * d == n ? d : d + n / d;
+        }
+      }
+      assertEquals(divisorCount, sieve.divisorCount(n), "Mismatch for " + n);
+      assertEquals(divisorSum, sieve.divisorSum(n), "Mismatch for " + n);
+    }
+  }
+
+  @Test
+  public void parallelAgreesWithSequential() {
+    var upUntil = 1_234_567;
+    var expected = divisorSieve(upUntil);
+
+    for (var parallelism = 1; parallelism <= 4; parallelism++) {
+      var sieve = divisorSieve(upUntil, parallelism);
+      for (var n = 1; n <= upUntil; n++) {
+        assertEquals(expected.divisorCount(n), sieve.divisorCount(n));
+        assertEquals(expected.divisorSum(n), sieve.divisorSum(n));
+      }
+    }
+  }
+
+  @Test
+  public void canSieveLargeTables() {
+    var sieve = divisorSieve(10_000_000, Runtime.getRuntime().availableProcessors());
+
+    assertEquals(64, sieve.divisorCount(10_000_000));
+    assertEquals(24_902_280, sieve.divisorSum(10_000_000));
+    assertEquals(2, sieve.divisorCount(9_999_991));
+    assertEquals(448, sieve.divisorCount(8_648_640));
+  }
+
+  @Test
+  public void throwsOnNumberOutsideOfTable() {
+    var sieve = divisorSieve(100);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> sieve.divisorCount(0));
+    assertThrows(IllegalArgumentException.class,
+        () -> sieve.divisorSum(101));
+  }
+
+  @Test
+  public void throwsOnEmptyTable() {
+    assertThrows(IllegalArgumentException.class,
+        () -> divisorSieve(0));
+  }
+
+  @Test
+  public void throwsOnNonPositiveParallelism() {
+    assertThrows(IllegalArgumentException.class,
+        () -> divisorSieve(100, 0));
+  }
+}
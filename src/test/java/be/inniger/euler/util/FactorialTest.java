@@ -0,0 +1,49 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static be.inniger.euler.util.Factorial.factorial;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FactorialTest {
+
+  @Test
+  public void agreesWithTheRunningProduct() {
+    var product = BigInteger.ONE;
+
+    assertEquals(BigInteger.ONE, factorial(0));
+    for (var n = 1; n <= 2_000; n++) {
+      product = product.multiply(BigInteger.valueOf(n));
+      assertEquals(product, factorial(n), "Mismatch for " + n);
+    }
+  }
+
+  @Test
+  public void canCalculateLargeFactorials() {
+    var factorial = factorial(100_000);
+    var modulus = BigInteger.valueOf(1_000_000_007);
+    var expected = 1L;
+    for (var n = 2; n <= 100_000; n++) {
+      expected = expected * n % 1_000_000_007;
+    }
+
+    assertEquals(1_516_705, factorial.bitLength());
+    assertEquals(99_994, factorial.getLowestSetBit());
+    assertEquals(expected, factorial.mod(modulus).longValueExact());
+  }
+
+  @Test
+  public void cachesRecentFactorials() {
+    assertSame(factorial(1_234), factorial(1_234));
+  }
+
+  @Test
+  public void throwsOnNegativeNumber() {
+    assertThrows(IllegalArgumentException.class,
+        () -> factorial(-1));
+  }
+}
@@ -0,0 +1,124 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static be.inniger.euler.util.LinearRecurrence.evenFibonacciSum;
+import static be.inniger.euler.util.LinearRecurrence.fibonacci;
+import static be.inniger.euler.util.LinearRecurrence.matrixPower;
+import static be.inniger.euler.util.LinearRecurrence.nthTerm;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LinearRecurrenceTest {
+
+  private static final long PRIME = 1_000_000_007L;
+
+  @Test
+  public void canCalculateFibonacciNumbers() {
+    assertEquals(BigInteger.ZERO, fibonacci(0));
+    assertEquals(BigInteger.ONE, fibonacci(1));
+    assertEquals(BigInteger.ONE, fibonacci(2));
+    assertEquals(BigInteger.valueOf(55), fibonacci(10));
+    assertEquals(BigInteger.valueOf(7_540_113_804_746_346_429L), fibonacci(92));
+    assertEquals(new BigInteger("354224848179261915075"), fibonacci(100));
+    assertEquals(1000, fibonacci(4782).toString().length()); // The first term with 1000 digits, see problem 25
+    assertEquals(999, fibonacci(4781).toString().length());
+  }
+
+  @Test
+  public void agreesWithIteratingTheRecurrence() {
+    var previous = BigInteger.ONE; // F(-1)
+    var current = BigInteger.ZERO;
+    for (var n = 0; n <= 2_000; n++) {
+      assertEquals(current, fibonacci(n));
+      for (var modulus : new long[]{1L, 2L, 10L, PRIME, (1L << 61) - 1, (1L << 62) + 2}) {
+        assertEquals(current.mod(BigInteger.valueOf(modulus)).longValueExact(), fibonacci(n, modulus));
+      }
+
+      var next = previous.add(current);
+      previous = current;
+      current = next;
+    }
+  }
+
+  @Test
+  public void canCalculateHugeFibonacciNumbersModuloAnything() {
+    assertEquals(fibonacci(1_000_000).mod(BigInteger.valueOf(PRIME)).longValueExact(), fibonacci(1_000_000L, PRIME));
+    // The Pisano period of 10 is 60
+    assertEquals(fibonacci(1_000_000_000_000_000_000L % 60, 10), fibonacci(1_000_000_000_000_000_000L, 10));
+    assertEquals(fibonacci(Long.MAX_VALUE % 60, 10), fibonacci(Long.MAX_VALUE, 10));
+  }
+
+  @Test
+  public void canSumEvenFibonacciNumbersUpUntilALimit() {
+    assertEquals(0, evenFibonacciSum(1));
+    assertEquals(2, evenFibonacciSum(2));
+    assertEquals(10, evenFibonacciSum(33));
+    assertEquals(44, evenFibonacciSum(34));
+    assertEquals(4_613_732, evenFibonacciSum(4_000_000));
+
+    // F(3n) up until F(90), the last even Fibonacci number that fits into a long
+    var expected = BigInteger.ZERO;
+    for (var n = 3; n <= 90; n += 3) {
+      expected = expected.add(fibonacci(n));
+    }
+    assertEquals(expected.longValueExact(), evenFibonacciSum(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void canSumTheFirstEvenFibonacciNumbers() {
+    var expected = BigInteger.ZERO;
+    for (var n = 0; n <= 300; n++) {
+      if (n > 0) {
+        expected = expected.add(fibonacci(3 * n));
+      }
+      for (var modulus : new long[]{1L, 2L, PRIME, Long.MAX_VALUE}) {
+        assertEquals(expected.mod(BigInteger.valueOf(modulus)).longValueExact(), evenFibonacciSum(n, modulus));
+      }
+    }
+
+    // S(n) = (F(3n + 2) - 1) / 2
+    var n = 1_000_000_000_000L;
+    assertEquals(Math.mulMod(fibonacci(3 * n + 2, PRIME) - 1, ModArith.inverse(2, PRIME), PRIME), evenFibonacciSum(n, PRIME));
+  }
+
+  @Test
+  public void canRaiseMatricesToAPower() {
+    var fibonacciMatrix = new long[][]{{1, 1}, {1, 0}};
+    assertArrayEquals(new long[][]{{1, 0}, {0, 1}}, matrixPower(fibonacciMatrix, 0, PRIME));
+    assertArrayEquals(new long[][]{{89, 55}, {55, 34}}, matrixPower(fibonacciMatrix, 10, PRIME));
+    assertArrayEquals(new long[][]{{5, 6}, {6, 6}}, matrixPower(fibonacciMatrix, 10, 7));
+    assertArrayEquals(new long[][]{{1, 0}, {0, 1}}, matrixPower(new long[][]{{-1, 0}, {0, -1}}, 2, PRIME));
+  }
+
+  @Test
+  public void canCalculateTermsOfArbitraryRecurrences() {
+    // Tribonacci: 0, 0, 1, 1, 2, 4, 7, 13, 24, 44, ...
+    var tribonacci = new long[]{1, 1, 1};
+    var initialTerms = new long[]{0, 0, 1};
+    var expected = new long[]{0, 0, 1, 1, 2, 4, 7, 13, 24, 44};
+    for (var n = 0; n < expected.length; n++) {
+      assertEquals(expected[n], nthTerm(tribonacci, initialTerms, n, PRIME));
+    }
+
+    // Fibonacci as an order 2 recurrence
+    assertEquals(fibonacci(1_000_000_000_000_000L, PRIME), nthTerm(new long[]{1, 1}, new long[]{0, 1}, 1_000_000_000_000_000L, PRIME));
+    // a(n) = 2 * a(n - 1), powers of 2
+    assertEquals(Math.modPow(2, 123_456_789L, PRIME), nthTerm(new long[]{2}, new long[]{1}, 123_456_789L, PRIME));
+  }
+
+  @Test
+  public void throwsOnInvalidInput() {
+    assertThrows(IllegalArgumentException.class,
+        () -> fibonacci(-1));
+    assertThrows(IllegalArgumentException.class,
+        () -> fibonacci(-1L, PRIME));
+    assertThrows(IllegalArgumentException.class,
+        () -> matrixPower(new long[][]{{1, 1}}, 2, PRIME));
+    assertThrows(IllegalArgumentException.class,
+        () -> nthTerm(new long[]{1, 1}, new long[]{0}, 5, PRIME));
+  }
+}
@@ -0,0 +1,114 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static be.inniger.euler.util.PrimeTable.primeTable;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MappedPrimeStoreTest {
+
+  private Path directory;
+  private Path file;
+
+  @BeforeEach
+  public void createDirectory() throws IOException {
+    directory = Files.createTempDirectory("primes");
+    file = directory.resolve("primes.bin");
+  }
+
+  @AfterEach
+  public void deleteDirectory() throws IOException {
+    Files.deleteIfExists(file);
+    Files.delete(directory);
+  }
+
+  @Test
+  public void canGetNextPrime() {
+    var supplier = MappedPrimeStore.open(file, 10).newSupplier();
+
+    assertEquals(2, supplier.nextPrime());
+    assertEquals(3, supplier.nextPrime());
+    assertEquals(5, supplier.nextPrime());
+    assertEquals(7, supplier.nextPrime());
+  }
+
+  @Test
+  public void storeHoldsTheFirstPrimes() {
+    var expected = primeTable(1_000_000).toArray();
+    var store = MappedPrimeStore.open(file, expected.length);
+
+    assertEquals(expected.length, store.size());
+    assertArrayEquals(expected, store.newSupplier().asStream().limit(expected.length).toArray());
+  }
+
+  @Test
+  public void reopeningReusesTheFile() throws IOException {
+    MappedPrimeStore.open(file, 1_000);
+    var lastModified = Files.getLastModifiedTime(file);
+
+    assertEquals(7_919, MappedPrimeStore.open(file, 500).getPrime(999));
+    assertEquals(lastModified, Files.getLastModifiedTime(file));
+  }
+
+  @Test
+  public void reopeningWithMorePrimesGrowsTheFile() {
+    MappedPrimeStore.open(file, 10);
+
+    assertEquals(7_919, MappedPrimeStore.open(file, 1_000).getPrime(999));
+  }
+
+  @Test
+  public void corruptHeadersAreRewritten() throws IOException {
+    MappedPrimeStore.open(file, 1_000);
+    var bytes = Files.readAllBytes(file);
+    bytes[0] ^= 1;
+    Files.write(file, bytes);
+
+    assertEquals(7_919, MappedPrimeStore.open(file, 1_000).getPrime(999));
+  }
+
+  @Test
+  public void truncatedFilesAreRewritten() throws IOException {
+    MappedPrimeStore.open(file, 1_000);
+    var bytes = Files.readAllBytes(file);
+    Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+    assertEquals(7_919, MappedPrimeStore.open(file, 1_000).getPrime(999));
+  }
+
+  @Test
+  public void corruptPrimesAreOnlyRewrittenWhenVerifyingTheChecksum() throws IOException {
+    MappedPrimeStore.open(file, 1_000);
+    var bytes = Files.readAllBytes(file);
+    bytes[bytes.length - 1] ^= 1;
+    Files.write(file, bytes);
+
+    assertEquals(7_918, MappedPrimeStore.open(file, 1_000).getPrime(999));
+    assertEquals(7_919, MappedPrimeStore.open(file, 1_000, true).getPrime(999));
+    assertEquals(7_919, MappedPrimeStore.open(file, 1_000).getPrime(999));
+  }
+
+  @Test
+  public void throwsWhenRunningOutOfPrimes() {
+    var supplier = MappedPrimeStore.open(file, 1).newSupplier();
+
+    assertEquals(2, supplier.nextPrime());
+    assertThrows(NoSuchElementException.class, supplier::nextPrime);
+  }
+
+  @Test
+  public void throwsOnNonPositiveNumberOfPrimes() {
+    assertThrows(IllegalArgumentException.class,
+        () -> MappedPrimeStore.open(file, 0));
+  }
+}
@@ -5,16 +5,32 @@ import org.junit.jupiter.api.Test;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static be.inniger.euler.util.Math.factorial;
+import static be.inniger.euler.util.Math.gcd;
 import static be.inniger.euler.util.Math.getPrimesUpUntil;
+import static be.inniger.euler.util.Math.icbrt;
+import static be.inniger.euler.util.Math.isPerfectSquare;
+import static be.inniger.euler.util.Math.isqrt;
+import static be.inniger.euler.util.Math.modPow;
+import static be.inniger.euler.util.Math.mulMod;
 import static be.inniger.euler.util.Math.pow;
+import static be.inniger.euler.util.Math.primesBetween;
 import static be.inniger.euler.util.Math.roundedSqrt;
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MathTest {
 
+  private static final long MAX_SQUARE_ROOT = 3_037_000_499L;
+
   @Test
   public void canGetPrimes() {
     assertEquals(List.of(2), getPrimesUpUntil(2));
@@ -22,6 +38,15 @@ public class MathTest {
     assertEquals(List.of(2, 3, 5, 7, 11, 13, 17, 19), getPrimesUpUntil(19));
   }
 
+  @Test
+  public void canGetPrimesWithEverySieveMode() {
+    for (var sieveMode : SieveMode.values()) {
+      assertEquals(List.of(2), getPrimesUpUntil(2, sieveMode));
+      assertEquals(List.of(2, 3, 5, 7, 11, 13, 17, 19), getPrimesUpUntil(19, sieveMode));
+      assertEquals(getPrimesUpUntil(100_000), getPrimesUpUntil(100_000, sieveMode));
+    }
+  }
+
   @Test
   public void throwsOnUpUntilNumberTooSmallToContainPrimes() {
     assertThrows(IllegalArgumentException.class,
@@ -34,6 +59,32 @@ public class MathTest {
         () -> getPrimesUpUntil(-1));
   }
 
+  @Test
+  public void canGetPrimesBetween() {
+    assertArrayEquals(new long[]{}, primesBetween(-10, 1).toArray());
+    assertArrayEquals(new long[]{2, 3, 5, 7}, primesBetween(-10, 10).toArray());
+    assertArrayEquals(new long[]{11, 13, 17, 19}, primesBetween(11, 19).toArray());
+    assertArrayEquals(IntStream.of(PrimeTable.primeTable(3_000_000).toArray()).asLongStream().toArray(), primesBetween(0, 3_000_000).toArray());
+  }
+
+  @Test
+  public void canGetPrimesBetweenFarFromTheOrigin() {
+    var from = 1_000_000_000_000L;
+    var upUntil = from + 3_000_000;
+    var expected = LongStream.rangeClosed(from, upUntil)
+        .filter(Primality::isProbablePrime)
+        .toArray();
+
+    assertArrayEquals(expected, primesBetween(from, upUntil).toArray());
+    assertArrayEquals(new long[]{1_000_000_000_000_037L}, primesBetween(1_000_000_000_000_000L, 1_000_000_000_000_040L).toArray());
+  }
+
+  @Test
+  public void throwsOnEmptyWindowOfPrimes() {
+    assertThrows(IllegalArgumentException.class,
+        () -> primesBetween(10, 9));
+  }
+
   @Test
   public void canCalculateTheSquareRoot() {
     assertEquals(0, roundedSqrt(0L));
@@ -55,6 +106,91 @@ public class MathTest {
         () -> roundedSqrt(-1));
   }
 
+  @Test
+  public void canCalculateTheExactSquareRoot() {
+    assertEquals(0, isqrt(0L));
+    assertEquals(1, isqrt(1L));
+    assertEquals(1, isqrt(3L));
+    assertEquals(2, isqrt(4L));
+    assertEquals(11, isqrt(143L));
+    assertEquals(12, isqrt(144L));
+    assertEquals(94_906_265L, isqrt(9_007_199_136_250_225L)); // 94906265^2, just below 2^53
+    assertEquals(94_906_265L, isqrt(9_007_199_136_250_226L));
+    assertEquals(2_147_483_648L, isqrt(1L << 62));
+    assertEquals(2_147_483_647L, isqrt((1L << 62) - 1));
+    assertEquals(3_037_000_499L, isqrt(Long.MAX_VALUE));
+    assertEquals(3_037_000_499L, isqrt(3_037_000_499L * 3_037_000_499L));
+    assertEquals(3_037_000_498L, isqrt(3_037_000_499L * 3_037_000_499L - 1));
+  }
+
+  @Test
+  public void agreesWithTheBigIntegerSquareRoot() {
+    var random = new Random(42L);
+    for (var i = 0; i < 100_000; i++) {
+      var number = (random.nextLong() & Long.MAX_VALUE) >>> random.nextInt(63);
+      assertEquals(BigInteger.valueOf(number).sqrt().longValueExact(), isqrt(number), "Mismatch for " + number);
+    }
+
+    // Around the squares, where the double square root is most likely to be off
+    for (var root = 94_906_260L; root <= 94_906_270L; root++) {
+      assertEquals(root - 1, isqrt(root * root - 1));
+      assertEquals(root, isqrt(root * root));
+    }
+    for (var root = 3_037_000_400L; root <= 3_037_000_499L; root++) {
+      assertEquals(root - 1, isqrt(root * root - 1));
+      assertEquals(root, isqrt(root * root));
+      assertEquals(root, isqrt(root * root + root));
+    }
+  }
+
+  @Test
+  public void canCalculateTheExactCubeRoot() {
+    assertEquals(0, icbrt(0L));
+    assertEquals(1, icbrt(7L));
+    assertEquals(2, icbrt(8L));
+    assertEquals(4, icbrt(124L));
+    assertEquals(5, icbrt(125L));
+    assertEquals(2_097_151L, icbrt(Long.MAX_VALUE));
+    for (var root = 2_097_000L; root <= 2_097_151L; root++) {
+      assertEquals(root - 1, icbrt(root * root * root - 1));
+      assertEquals(root, icbrt(root * root * root));
+    }
+
+    var random = new Random(42L);
+    for (var i = 0; i < 10_000; i++) {
+      var number = (random.nextLong() & Long.MAX_VALUE) >>> random.nextInt(63);
+      var root = icbrt(number);
+      assertTrue(BigInteger.valueOf(root).pow(3).compareTo(BigInteger.valueOf(number)) <= 0, "Too big for " + number);
+      assertTrue(BigInteger.valueOf(root + 1).pow(3).compareTo(BigInteger.valueOf(number)) > 0, "Too small for " + number);
+    }
+  }
+
+  @Test
+  public void canRecognizePerfectSquares() {
+    assertTrue(isPerfectSquare(0L));
+    assertTrue(isPerfectSquare(1L));
+    assertTrue(isPerfectSquare(144L));
+    assertTrue(isPerfectSquare(3_037_000_499L * 3_037_000_499L));
+    assertFalse(isPerfectSquare(-4L));
+    assertFalse(isPerfectSquare(2L));
+    assertFalse(isPerfectSquare(145L));
+    assertFalse(isPerfectSquare(3_037_000_499L * 3_037_000_499L - 1));
+    assertFalse(isPerfectSquare(Long.MAX_VALUE));
+
+    for (var number = 0L; number <= 100_000L; number++) {
+      var root = BigInteger.valueOf(number).sqrt().longValueExact();
+      assertEquals(root * root == number, isPerfectSquare(number), "Mismatch for " + number);
+    }
+  }
+
+  @Test
+  public void throwsOnExactRootsOfNegativeNumbers() {
+    assertThrows(IllegalArgumentException.class,
+        () -> isqrt(-1L));
+    assertThrows(IllegalArgumentException.class,
+        () -> icbrt(-1L));
+  }
+
   @Test
   public void canCalculateThePowerOfAPositiveIntegerBaseWithAPositiveIntegerExponent() {
     assertEquals(0, pow(0, 1));
@@ -87,6 +223,115 @@ public class MathTest {
         () -> pow(2, -1));
   }
 
+  @Test
+  public void canCalculateThePowerOfALongBase() {
+    assertEquals(1L, pow(3L, 0));
+    assertEquals(1L << 62, pow(2L, 62));
+    assertEquals(-27L, pow(-3L, 3));
+    assertEquals(Long.MIN_VALUE, pow(-2L, 63));
+    assertEquals(1L, pow(-1L, Integer.MAX_VALUE - 1));
+    assertEquals(-1L, pow(-1L, Integer.MAX_VALUE));
+    assertEquals(7_450_580_596_923_828_125L, pow(5L, 27));
+  }
+
+  @Test
+  public void throwsOnOverflowingPowers() {
+    assertThrows(ArithmeticException.class,
+        () -> pow(2, 31));
+    assertThrows(ArithmeticException.class,
+        () -> pow(2L, 63));
+    assertThrows(ArithmeticException.class,
+        () -> pow(3L, 40));
+  }
+
+  @Test
+  public void canCalculateThePowerOfABigIntegerBase() {
+    assertEquals(BigInteger.ONE, pow(BigInteger.TEN, 0));
+    assertEquals(new BigInteger("1" + "0".repeat(100)), pow(BigInteger.TEN, 100));
+    assertThrows(IllegalArgumentException.class,
+        () -> pow(BigInteger.ZERO, 0));
+  }
+
+  @Test
+  public void canCalculateModularPowers() {
+    assertEquals(0, modPow(5, 3, 1));
+    assertEquals(1, modPow(5, 0, 7));
+    assertEquals(4, modPow(2, 10, 10));
+    assertEquals(2, modPow(-3, 3, 29));
+    assertEquals(1, modPow(2, 1_000_000_006, 1_000_000_007));
+    assertEquals(1, modPow(3, Long.MAX_VALUE - 25, Long.MAX_VALUE - 24));
+  }
+
+  @Test
+  public void modularPowersAgreeWithBigInteger() {
+    var random = new Random(42);
+
+    for (var i = 0; i < 10_000; i++) {
+      var base = random.nextLong();
+      var exponent = random.nextLong() & Long.MAX_VALUE;
+      var modulus = Math.max(1L, (random.nextLong() & Long.MAX_VALUE) >>> random.nextInt(63));
+      var expected = BigInteger.valueOf(base).modPow(BigInteger.valueOf(exponent), BigInteger.valueOf(modulus)).longValueExact();
+      assertEquals(expected, modPow(base, exponent, modulus), format("%d^%d mod %d", base, exponent, modulus));
+    }
+  }
+
+  @Test
+  public void modularProductsAgreeWithBigInteger() {
+    var random = new Random(42);
+
+    for (var i = 0; i < 10_000; i++) {
+      var a = random.nextLong();
+      var b = random.nextLong();
+      var modulus = Math.max(1L, (random.nextLong() & Long.MAX_VALUE) >>> random.nextInt(63));
+      var expected = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)).mod(BigInteger.valueOf(modulus)).longValueExact();
+      assertEquals(expected, mulMod(a, b, modulus), format("%d * %d mod %d", a, b, modulus));
+    }
+  }
+
+  @Test
+  public void modularProductsAgreeWithBigIntegerNearTheModulus() {
+    var random = new Random(42);
+
+    for (var modulus : new long[]{Long.MAX_VALUE, Long.MAX_VALUE - 1, 1L << 62, (1L << 62) + 1, (1L << 32) + 1, 1L << 32, MAX_SQUARE_ROOT + 1}) {
+      for (var i = 0; i < 1_000; i++) {
+        // Operands right below the modulus, where every quotient digit is as big as it gets
+        var a = modulus - 1 - (random.nextLong() & 0xFFFF);
+        var b = i % 2 == 0 ? modulus - 1 - (random.nextLong() & 0xFFFF) : random.nextLong();
+        var expected = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)).mod(BigInteger.valueOf(modulus)).longValueExact();
+        assertEquals(expected, mulMod(a, b, modulus), format("%d * %d mod %d", a, b, modulus));
+      }
+    }
+  }
+
+  @Test
+  public void throwsOnInvalidModularPowers() {
+    assertThrows(IllegalArgumentException.class,
+        () -> modPow(2, 3, 0));
+    assertThrows(IllegalArgumentException.class,
+        () -> modPow(0, 0, 7));
+    assertThrows(IllegalArgumentException.class,
+        () -> modPow(2, -1, 7));
+    assertThrows(IllegalArgumentException.class,
+        () -> mulMod(2, 3, -7));
+  }
+
+  @Test
+  public void canCalculateTheGreatestCommonDivisor() {
+    assertEquals(0, gcd(0, 0));
+    assertEquals(5, gcd(0, 5));
+    assertEquals(5, gcd(5, 0));
+    assertEquals(6, gcd(12, 18));
+    assertEquals(6, gcd(-12, 18));
+    assertEquals(1, gcd(17, 31));
+    assertEquals(1L << 40, gcd(1L << 40, 3L << 41));
+  }
+
+  @Test
+  public void throwsOnTheGreatestCommonDivisorOfLongMinValue() {
+    assertThrows(IllegalArgumentException.class,
+        () -> gcd(Long.MIN_VALUE, 2));
+  }
+
   @Test
   public void canCalculateFactorial() {
     assertEquals(new BigInteger("1"), factorial(0));
@@ -0,0 +1,160 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static be.inniger.euler.util.ModArith.batchInverse;
+import static be.inniger.euler.util.ModArith.crt;
+import static be.inniger.euler.util.ModArith.extendedGcd;
+import static be.inniger.euler.util.ModArith.inverse;
+import static be.inniger.euler.util.ModArith.reducer;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ModArithTest {
+
+  private static final long PRIME = 1_000_000_007L;
+
+  @Test
+  public void canCalculateTheExtendedGcd() {
+    var extendedGcd = extendedGcd(240, 46);
+    assertEquals(2, extendedGcd.getGcd());
+    assertEquals(2, 240 * extendedGcd.getX() + 46 * extendedGcd.getY());
+
+    extendedGcd = extendedGcd(-240, 46);
+    assertEquals(2, extendedGcd.getGcd());
+    assertEquals(2, -240 * extendedGcd.getX() + 46 * extendedGcd.getY());
+
+    assertEquals(7, extendedGcd(0, -7).getGcd());
+    assertEquals(0, extendedGcd(0, 0).getGcd());
+
+    var random = new Random(42L);
+    for (var i = 0; i < 10_000; i++) {
+      var a = random.nextLong() >> random.nextInt(63);
+      var b = random.nextLong() >> random.nextInt(63);
+      if (a == Long.MIN_VALUE || b == Long.MIN_VALUE) {
+        continue;
+      }
+
+      extendedGcd = extendedGcd(a, b);
+      var expected = BigInteger.valueOf(a).gcd(BigInteger.valueOf(b));
+      assertEquals(expected.longValueExact(), extendedGcd.getGcd());
+      assertEquals(expected, BigInteger.valueOf(a).multiply(BigInteger.valueOf(extendedGcd.getX()))
+          .add(BigInteger.valueOf(b).multiply(BigInteger.valueOf(extendedGcd.getY()))));
+    }
+  }
+
+  @Test
+  public void canCalculateInverses() {
+    assertEquals(4, inverse(3, 11));
+    assertEquals(7, inverse(-3, 11));
+    assertEquals(0, inverse(5, 1));
+    assertEquals(500_000_004L, inverse(2, PRIME));
+    assertEquals(Long.MAX_VALUE - 1, inverse(Long.MAX_VALUE - 1, Long.MAX_VALUE));
+
+    var random = new Random(42L);
+    for (var i = 0; i < 10_000; i++) {
+      var modulus = Math.max(2L, random.nextLong() & Long.MAX_VALUE);
+      var number = random.nextLong();
+      if (BigInteger.valueOf(number).gcd(BigInteger.valueOf(modulus)).equals(BigInteger.ONE)) {
+        var expected = BigInteger.valueOf(number).modInverse(BigInteger.valueOf(modulus)).longValueExact();
+        assertEquals(expected, inverse(number, modulus));
+      }
+    }
+  }
+
+  @Test
+  public void throwsOnNumbersWithoutInverse() {
+    assertThrows(ArithmeticException.class,
+        () -> inverse(6, 9));
+    assertThrows(ArithmeticException.class,
+        () -> inverse(0, PRIME));
+    assertThrows(IllegalArgumentException.class,
+        () -> inverse(3, 0));
+  }
+
+  @Test
+  public void canInvertManyNumbersAtOnce() {
+    assertArrayEquals(new long[0], batchInverse(new long[0], PRIME));
+    assertArrayEquals(new long[]{1, 6, 4, 3, 9, 2, 8, 7, 5, 10}, batchInverse(new long[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, 11));
+
+    for (var modulus : new long[]{PRIME, (1L << 32) - 5, Long.MAX_VALUE, (1L << 62) + 2}) {
+      var random = new Random(42L);
+      var numbers = random.longs(1_000, 1, Long.MAX_VALUE)
+          .filter(number -> Math.gcd(number, modulus) == 1)
+          .toArray();
+
+      var inverses = batchInverse(numbers, modulus);
+      for (var i = 0; i < numbers.length; i++) {
+        assertEquals(inverse(numbers[i], modulus), inverses[i]);
+      }
+    }
+  }
+
+  @Test
+  public void throwsWhenAnyNumberInTheBatchHasNoInverse() {
+    assertThrows(ArithmeticException.class,
+        () -> batchInverse(new long[]{1, 2, 33, 4}, 11));
+  }
+
+  @Test
+  public void canSolveCongruences() {
+    assertEquals(0, crt(new long[0], new long[0]));
+    assertEquals(23, crt(new long[]{2, 3, 2}, new long[]{3, 5, 7}));
+    assertEquals(7, crt(new long[]{-1, 1}, new long[]{4, 6})); // Moduli that are not coprime
+    assertEquals(5, crt(new long[]{5, 5}, new long[]{12, 12}));
+
+    var prime = 2_305_843_009_213_693_951L; // 2^61 - 1
+    var remainders = new long[]{1_234_567_890_123L, 7};
+    var solution = crt(remainders, new long[]{prime, 3});
+    assertEquals(remainders[0], solution % prime);
+    assertEquals(remainders[1] % 3, solution % 3);
+  }
+
+  @Test
+  public void throwsOnContradictingCongruences() {
+    assertThrows(ArithmeticException.class,
+        () -> crt(new long[]{1, 2}, new long[]{4, 6}));
+    assertThrows(ArithmeticException.class,
+        () -> crt(new long[]{1, 2}, new long[]{Long.MAX_VALUE, Long.MAX_VALUE - 1}));
+    assertThrows(IllegalArgumentException.class,
+        () -> crt(new long[]{1}, new long[]{4, 6}));
+  }
+
+  @Test
+  public void canReduceWithoutDivisions() {
+    var random = new Random(42L);
+    for (var modulus : new long[]{1L, 2L, 10L, PRIME, 1L << 32, (1L << 32) + 15, (1L << 32) + 2, 1L << 40, 6L << 40,
+        (1L << 62) + 2, Long.MAX_VALUE - 1, Long.MAX_VALUE}) {
+      var reducer = reducer(modulus);
+      assertEquals(modulus, reducer.getModulus());
+      assertEquals(1 % modulus, reducer.fromResidue(reducer.one()));
+
+      for (var i = 0; i < 1_000; i++) {
+        var a = random.nextLong();
+        var b = random.nextLong();
+        var exponent = random.nextLong() & Long.MAX_VALUE;
+        var x = reducer.toResidue(a);
+        var y = reducer.toResidue(b);
+        var bigModulus = BigInteger.valueOf(modulus);
+
+        assertEquals(Math.floorMod(a, modulus), reducer.fromResidue(x));
+        assertEquals(Math.mulMod(a, b, modulus), reducer.fromResidue(reducer.multiply(x, y)));
+        assertEquals(BigInteger.valueOf(a).add(BigInteger.valueOf(b)).mod(bigModulus).longValueExact(), reducer.fromResidue(reducer.add(x, y)));
+        assertEquals(BigInteger.valueOf(a).subtract(BigInteger.valueOf(b)).mod(bigModulus).longValueExact(), reducer.fromResidue(reducer.subtract(x, y)));
+        assertEquals(BigInteger.valueOf(a).modPow(BigInteger.valueOf(exponent), bigModulus).longValueExact(), reducer.fromResidue(reducer.pow(x, exponent)));
+      }
+    }
+  }
+
+  @Test
+  public void picksBarrettForSmallModuli() {
+    assertTrue(reducer(PRIME) instanceof Barrett);
+    assertTrue(reducer(1L << 32) instanceof Barrett);
+    assertTrue(reducer((1L << 32) + 1) instanceof Montgomery);
+  }
+}
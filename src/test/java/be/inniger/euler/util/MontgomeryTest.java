@@ -0,0 +1,59 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static be.inniger.euler.util.Montgomery.montgomery;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MontgomeryTest {
+
+  @Test
+  public void canConvertToAndFromMontgomeryForm() {
+    var montgomery = montgomery(1_000_000_007);
+
+    assertEquals(1, montgomery.fromMontgomery(montgomery.one()));
+    assertEquals(1_000_000_006, montgomery.fromMontgomery(montgomery.minusOne()));
+    assertEquals(42, montgomery.fromMontgomery(montgomery.toMontgomery(42)));
+    assertEquals(1_000_000_005, montgomery.fromMontgomery(montgomery.toMontgomery(-2)));
+  }
+
+  @Test
+  public void canMultiply() {
+    var montgomery = montgomery(Long.MAX_VALUE);
+    var a = montgomery.toMontgomery(Long.MAX_VALUE - 1);
+    var b = montgomery.toMontgomery(Long.MAX_VALUE - 2);
+
+    assertEquals(2, montgomery.fromMontgomery(montgomery.multiply(a, b)));
+    assertEquals(1, montgomery.fromMontgomery(montgomery.square(a)));
+  }
+
+  @Test
+  public void canReuseOneModulusForManyPowers() {
+    var modulus = 998_244_353L;
+    var montgomery = montgomery(modulus);
+    var random = new Random(42);
+
+    for (var i = 0; i < 10_000; i++) {
+      var base = random.nextLong();
+      var exponent = random.nextLong() & Long.MAX_VALUE;
+      var expected = BigInteger.valueOf(base).modPow(BigInteger.valueOf(exponent), BigInteger.valueOf(modulus)).longValueExact();
+      assertEquals(expected, montgomery.modPow(base, exponent));
+    }
+  }
+
+  @Test
+  public void throwsOnEvenModulus() {
+    assertThrows(IllegalArgumentException.class,
+        () -> montgomery(1L << 32));
+  }
+
+  @Test
+  public void throwsOnTooSmallModulus() {
+    assertThrows(IllegalArgumentException.class,
+        () -> montgomery(1));
+  }
+}
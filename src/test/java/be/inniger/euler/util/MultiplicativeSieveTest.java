@@ -0,0 +1,105 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static be.inniger.euler.util.DivisorSieve.divisorSieve;
+import static be.inniger.euler.util.MultiplicativeFunction.DIVISOR_COUNT;
+import static be.inniger.euler.util.MultiplicativeFunction.DIVISOR_SUM;
+import static be.inniger.euler.util.MultiplicativeFunction.MOBIUS;
+import static be.inniger.euler.util.MultiplicativeFunction.TOTIENT;
+import static be.inniger.euler.util.MultiplicativeSieve.multiplicativeTable;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MultiplicativeSieveTest {
+
+  @Test
+  public void canTabulateTotient() {
+    assertArrayEquals(new long[]{0, 1, 1, 2, 2, 4, 2, 6, 4, 6, 4, 10, 4}, multiplicativeTable(TOTIENT, 12));
+  }
+
+  @Test
+  public void canTabulateMobius() {
+    assertArrayEquals(new long[]{0, 1, -1, -1, 0, -1, 1, -1, 0, 0, 1, -1, 0}, multiplicativeTable(MOBIUS, 12));
+  }
+
+  @Test
+  public void totientAgreesWithGcd() {
+    var totients = multiplicativeTable(TOTIENT, 2_000);
+
+    for (var n = 1; n <= 2_000; n++) {
+      var nrCoprimes = 0;
+      for (var k = 1; k <= n; k++) {
+        if (Math.gcd(n, k) == 1) {
+          nrCoprimes++;
+        }
+      }
+      assertEquals(nrCoprimes, totients[n], "Mismatch for " + n);
+    }
+  }
+
+  @Test
+  public void mobiusSumsToZeroOverDivisors() {
+    var mobius = multiplicativeTable(MOBIUS, 2_000);
+
+    for (var n = 2; n <= 2_000; n++) {
+      var sum = 0L;
+      for (var d = 1; d <= n; d++) {
+        if (n % d == 0) {
+          sum += mobius[d];
+        }
+      }
+      assertEquals(0, sum, "Mismatch for " + n);
+    }
+  }
+
+  @Test
+  public void divisorFunctionsAgreeWithDivisorSieve() {
+    var upUntil = 100_000;
+    var divisorSieve = divisorSieve(upUntil);
+    var divisorCounts = multiplicativeTable(DIVISOR_COUNT, upUntil);
+    var divisorSums = multiplicativeTable(DIVISOR_SUM, upUntil);
+
+    for (var n = 1; n <= upUntil; n++) {
+      assertEquals(divisorSieve.divisorCount(n), divisorCounts[n], "Mismatch for " + n);
+      assertEquals(divisorSieve.divisorSum(n), divisorSums[n], "Mismatch for " + n);
+    }
+  }
+
+  @Test
+  public void parallelAgreesWithLinear() {
+    var upUntil = 1_234_567;
+
+    for (var function : List.of(TOTIENT, MOBIUS, DIVISOR_COUNT, DIVISOR_SUM)) {
+      var expected = multiplicativeTable(function, upUntil);
+      for (var parallelism = 1; parallelism <= 3; parallelism++) {
+        assertArrayEquals(expected, multiplicativeTable(function, upUntil, parallelism));
+      }
+    }
+  }
+
+  @Test
+  public void canTabulateCustomFunctions() {
+    // Number of distinct prime factors, as 2^omega(n) to make it multiplicative
+    var powersOfTwo = multiplicativeTable((prime, exponent) -> 2, 30);
+
+    assertEquals(1, powersOfTwo[1]);
+    assertEquals(2, powersOfTwo[16]);
+    assertEquals(8, powersOfTwo[30]);
+  }
+
+  @Test
+  public void throwsOnEmptyTable() {
+    assertThrows(IllegalArgumentException.class,
+        () -> multiplicativeTable(TOTIENT, 0));
+  }
+
+  @Test
+  public void throwsOnNonPositiveParallelism() {
+    assertThrows(IllegalArgumentException.class,
+        () -> multiplicativeTable(TOTIENT, 100, 0));
+  }
+}
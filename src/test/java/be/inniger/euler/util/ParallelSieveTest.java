@@ -0,0 +1,44 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import static be.inniger.euler.util.PrimeTable.primeTable;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParallelSieveTest {
+
+  @Test
+  public void canGetPrimes() {
+    assertArrayEquals(new int[]{2}, ParallelSieve.newInstance(2).primeTable(2).toArray());
+    assertArrayEquals(new int[]{2, 3, 5, 7, 11, 13, 17, 19}, ParallelSieve.newInstance(2).primeTable(19).toArray());
+  }
+
+  @Test
+  public void agreesWithTheSequentialSieve() {
+    var upUntil = 12_345_678;
+    var expected = primeTable(upUntil).toArray();
+
+    for (var parallelism = 1; parallelism <= 4; parallelism++) {
+      assertArrayEquals(expected, ParallelSieve.newInstance(parallelism).primeTable(upUntil).toArray());
+    }
+  }
+
+  @Test
+  public void canCountPrimes() {
+    assertEquals(5_761_455, ParallelSieve.newInstance().primeTable(100_000_000).count());
+  }
+
+  @Test
+  public void throwsOnNonPositiveParallelism() {
+    assertThrows(IllegalArgumentException.class,
+        () -> ParallelSieve.newInstance(0));
+  }
+
+  @Test
+  public void throwsOnUpUntilNumberTooSmallToContainPrimes() {
+    assertThrows(IllegalArgumentException.class,
+        () -> ParallelSieve.newInstance().primeTable(1));
+  }
+}
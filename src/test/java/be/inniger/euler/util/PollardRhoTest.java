@@ -0,0 +1,50 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static be.inniger.euler.util.PollardRho.primeFactors;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PollardRhoTest {
+
+  @Test
+  public void canFactorizeSmallNumbers() {
+    assertArrayEquals(new long[]{}, primeFactors(1));
+    assertArrayEquals(new long[]{2}, primeFactors(2));
+    assertArrayEquals(new long[]{2, 2, 5}, primeFactors(20));
+    assertArrayEquals(new long[]{71, 839, 1471, 6857}, primeFactors(600_851_475_143L));
+  }
+
+  @Test
+  public void canFactorizeLargeNumbers() {
+    assertArrayEquals(new long[]{998_244_353L, 1_000_000_007L}, primeFactors(998_244_353L * 1_000_000_007L));
+    assertArrayEquals(new long[]{2_147_483_647L, 2_147_483_647L}, primeFactors(2_147_483_647L * 2_147_483_647L));
+    assertArrayEquals(new long[]{7, 7, 73, 127, 337, 92_737, 649_657}, primeFactors(Long.MAX_VALUE));
+    assertArrayEquals(new long[]{9_223_372_036_854_775_783L}, primeFactors(9_223_372_036_854_775_783L));
+    assertArrayEquals(new long[]{1031, 1031, 1031, 1033}, primeFactors(1031L * 1031 * 1031 * 1033));
+  }
+
+  @Test
+  public void factorsMultiplyBackToTheNumber() {
+    new Random(42).longs(2_000, 1, Long.MAX_VALUE)
+        .forEach(number -> {
+          var product = 1L;
+          for (var prime : primeFactors(number)) {
+            assertTrue(Primality.isProbablePrime(prime), "Not a prime factor: " + prime);
+            product *= prime;
+          }
+          assertEquals(number, product);
+        });
+  }
+
+  @Test
+  public void throwsOnNonPositiveNumbers() {
+    assertThrows(IllegalArgumentException.class,
+        () -> primeFactors(0));
+  }
+}
@@ -0,0 +1,53 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static be.inniger.euler.util.Primality.isProbablePrime;
+import static be.inniger.euler.util.PrimeTable.primeTable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrimalityTest {
+
+  @Test
+  public void canCheckSmallNumbers() {
+    var table = primeTable(200_000);
+
+    LongStream.rangeClosed(-10, 200_000)
+        .forEach(i -> assertEquals(i >= 0 && table.isPrime(i), isProbablePrime(i), "Mismatch for " + i));
+  }
+
+  @Test
+  public void canCheckLargePrimes() {
+    assertTrue(isProbablePrime(1_000_000_007L));
+    assertTrue(isProbablePrime(2_147_483_647L)); // 2^31 - 1
+    assertTrue(isProbablePrime(2_305_843_009_213_693_951L)); // 2^61 - 1
+    assertTrue(isProbablePrime(9_223_372_036_854_775_783L)); // Largest prime below 2^63
+  }
+
+  @Test
+  public void canCheckLargeComposites() {
+    assertFalse(isProbablePrime(600_851_475_143L));
+    assertFalse(isProbablePrime(Long.MAX_VALUE));
+    assertFalse(isProbablePrime(4_294_967_297L)); // Fermat number F5 = 641 * 6700417
+    assertFalse(isProbablePrime(3_825_123_056_546_413_051L)); // Strong pseudoprime to all prime bases up until 23
+    assertFalse(isProbablePrime(3_215_031_751L)); // Strong pseudoprime to bases 2, 3, 5 and 7
+    assertFalse(isProbablePrime(2_305_843_009_213_693_951L * 3));
+  }
+
+  @Test
+  public void agreesWithBigInteger() {
+    var random = new Random(42);
+
+    random.longs(10_000, 1L << 17, Long.MAX_VALUE)
+        .forEach(i -> assertEquals(BigInteger.valueOf(i).isProbablePrime(100), isProbablePrime(i), "Mismatch for " + i));
+    random.longs(10_000, 1L << 17, Long.MAX_VALUE)
+        .map(i -> i | 1)
+        .forEach(i -> assertEquals(BigInteger.valueOf(i).isProbablePrime(100), isProbablePrime(i), "Mismatch for " + i));
+  }
+}
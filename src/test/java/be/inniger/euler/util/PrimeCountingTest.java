@@ -0,0 +1,114 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static be.inniger.euler.util.PrimeCounting.nthPrime;
+import static be.inniger.euler.util.PrimeCounting.primePi;
+import static be.inniger.euler.util.PrimeCounting.sumOfPrimesUpTo;
+import static be.inniger.euler.util.PrimeTable.primeTable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PrimeCountingTest {
+
+  @Test
+  public void canCountPrimes() {
+    assertEquals(0, primePi(-1));
+    assertEquals(0, primePi(1));
+    assertEquals(1, primePi(2));
+    assertEquals(2, primePi(3));
+    assertEquals(4, primePi(10));
+    assertEquals(25, primePi(100));
+    assertEquals(78_498, primePi(1_000_000));
+  }
+
+  @Test
+  public void agreesWithTheSieve() {
+    var table = primeTable(10_000);
+    var count = 0;
+
+    for (var x = 0; x <= 10_000; x++) {
+      if (table.isPrime(x)) {
+        count++;
+      }
+      assertEquals(count, primePi(x), "Mismatch for " + x);
+    }
+  }
+
+  @Test
+  public void agreesWithTheSieveForLargeValues() {
+    var primes = primeTable(100_000_000).toArray();
+    var count = 0;
+    var sum = 0L;
+
+    for (var x : new long[]{1_000_000, 9_999_991, 10_000_000, 54_321_987, 100_000_000}) {
+      while (count < primes.length && primes[count] <= x) {
+        sum += primes[count++];
+      }
+      assertEquals(count, primePi(x), "Mismatch for " + x);
+      assertEquals(BigInteger.valueOf(sum), sumOfPrimesUpTo(x), "Mismatch for " + x);
+    }
+  }
+
+  @Test
+  public void canSumPrimes() {
+    assertEquals(BigInteger.ZERO, sumOfPrimesUpTo(1));
+    assertEquals(BigInteger.TWO, sumOfPrimesUpTo(2));
+    assertEquals(BigInteger.valueOf(17), sumOfPrimesUpTo(10));
+    assertEquals(BigInteger.valueOf(142_913_828_922L), sumOfPrimesUpTo(2_000_000));
+    assertEquals(BigInteger.valueOf(2_220_822_432_581_729_238L), sumOfPrimesUpTo(10_000_000_000L));
+  }
+
+  @Test
+  public void sumAgreesWithTheSieve() {
+    var table = primeTable(10_000);
+    var sum = 0L;
+
+    for (var x = 0; x <= 10_000; x++) {
+      if (table.isPrime(x)) {
+        sum += x;
+      }
+      assertEquals(BigInteger.valueOf(sum), sumOfPrimesUpTo(x), "Mismatch for " + x);
+    }
+  }
+
+  @Test
+  public void canSumPrimesModulo() {
+    var x = 10_000_000L;
+    var sum = BigInteger.valueOf(IntStream.of(primeTable(x).toArray()).asLongStream().sum());
+
+    LongStream.of(1, 2, 3, 12, 1_000_000_000, 1_000_000_007, 1L << 62, Long.MAX_VALUE)
+        .forEach(modulus -> assertEquals(sum.mod(BigInteger.valueOf(modulus)).longValueExact(), sumOfPrimesUpTo(x, modulus),
+            "Mismatch for modulus " + modulus));
+  }
+
+  @Test
+  public void throwsOnNonPositiveModulus() {
+    assertThrows(IllegalArgumentException.class,
+        () -> sumOfPrimesUpTo(10, 0));
+  }
+
+  @Test
+  public void canGetNthPrime() {
+    var primes = primeTable(200_000).toArray();
+
+    IntStream.iterate(0, i -> i < primes.length, i -> i + 7)
+        .forEach(i -> assertEquals(primes[i], nthPrime(i + 1), "Mismatch for prime number " + (i + 1)));
+  }
+
+  @Test
+  public void canGetLargeNthPrime() {
+    assertEquals(104_743, nthPrime(10_001));
+    assertEquals(15_485_863, nthPrime(1_000_000));
+  }
+
+  @Test
+  public void throwsOnNonPositivePrimeIndex() {
+    assertThrows(IllegalArgumentException.class,
+        () -> nthPrime(0));
+  }
+}
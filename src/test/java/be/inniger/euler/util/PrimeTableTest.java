@@ -0,0 +1,88 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static be.inniger.euler.util.PrimeTable.primeTable;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrimeTableTest {
+
+  @Test
+  public void canGetPrimes() {
+    assertArrayEquals(new int[]{2}, primeTable(2).toArray());
+    assertArrayEquals(new int[]{2, 3}, primeTable(3).toArray());
+    assertArrayEquals(new int[]{2, 3, 5}, primeTable(5).toArray());
+    assertArrayEquals(new int[]{2, 3, 5, 7, 11, 13, 17, 19}, primeTable(19).toArray());
+    assertArrayEquals(new int[]{2, 3, 5, 7, 11, 13, 17, 19, 23}, primeTable(28).toArray());
+  }
+
+  @Test
+  public void streamAndArrayViewsAgree() {
+    var table = primeTable(10_000);
+
+    assertArrayEquals(table.toArray(), table.stream().toArray());
+  }
+
+  @Test
+  public void canCountPrimes() {
+    assertEquals(1, primeTable(2).count());
+    assertEquals(4, primeTable(10).count());
+    assertEquals(25, primeTable(100).count());
+    assertEquals(168, primeTable(1_000).count());
+    assertEquals(78_498, primeTable(1_000_000).count());
+    assertEquals(664_579, primeTable(10_000_000).count());
+  }
+
+  @Test
+  public void canCheckPrimality() {
+    var table = primeTable(1_000);
+
+    assertFalse(table.isPrime(-7));
+    assertFalse(table.isPrime(0));
+    assertFalse(table.isPrime(1));
+    assertTrue(table.isPrime(2));
+    assertTrue(table.isPrime(3));
+    assertFalse(table.isPrime(4));
+    assertFalse(table.isPrime(9));
+    assertTrue(table.isPrime(997));
+    assertFalse(table.isPrime(999));
+    assertFalse(table.isPrime(1_000));
+  }
+
+  @Test
+  public void agreesWithTrialDivision() {
+    var table = primeTable(5_000);
+
+    IntStream.rangeClosed(0, 5_000)
+        .forEach(i -> assertEquals(isPrimeByTrialDivision(i), table.isPrime(i), "Mismatch for " + i));
+  }
+
+  @Test
+  public void throwsOnUpUntilNumberTooSmallToContainPrimes() {
+    assertThrows(IllegalArgumentException.class,
+        () -> primeTable(1));
+  }
+
+  @Test
+  public void throwsOnUpUntilNumberTooBigForTheTable() {
+    assertThrows(IllegalArgumentException.class,
+        () -> primeTable(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void throwsOnLookupOutsideOfTheTable() {
+    assertThrows(IllegalArgumentException.class,
+        () -> primeTable(100).isPrime(101));
+  }
+
+  private static boolean isPrimeByTrialDivision(int number) {
+    return number >= 2 && IntStream.rangeClosed(2, (int) java.lang.Math.sqrt(number))
+        .noneMatch(i -> number % i == 0);
+  }
+}
@@ -0,0 +1,40 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static be.inniger.euler.util.PrimeTable.primeTable;
+import static be.inniger.euler.util.SegmentedSieve.primesBetween;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SegmentedSieveTest {
+
+  private static final int[] BASE_PRIMES = primeTable(1_000).toArray();
+
+  @Test
+  public void canGetPrimesInAWindow() {
+    assertArrayEquals(new int[]{2, 3, 5, 7}, primesBetween(0, 10, BASE_PRIMES, BASE_PRIMES.length));
+    assertArrayEquals(new int[]{11, 13, 17, 19}, primesBetween(11, 19, BASE_PRIMES, BASE_PRIMES.length));
+    assertArrayEquals(new int[]{}, primesBetween(24, 28, BASE_PRIMES, BASE_PRIMES.length));
+    assertArrayEquals(new int[]{2}, primesBetween(2, 2, BASE_PRIMES, BASE_PRIMES.length));
+  }
+
+  @Test
+  public void agreesWithTheFullSieve() {
+    var from = 123_457;
+    var upUntil = 987_654;
+    var expected = IntStream.of(primeTable(upUntil).toArray())
+        .filter(prime -> prime >= from)
+        .toArray();
+
+    assertArrayEquals(expected, primesBetween(from, upUntil, BASE_PRIMES, BASE_PRIMES.length));
+  }
+
+  @Test
+  public void throwsOnEmptyWindow() {
+    assertThrows(IllegalArgumentException.class,
+        () -> primesBetween(10, 9, BASE_PRIMES, BASE_PRIMES.length));
+  }
+}
@@ -0,0 +1,85 @@
+package be.inniger.euler.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Compares the odd-only and the mod-30 wheel sieve backends,
+ * both for whole tables and for the window by window growth of the UnboundPrimeSupplier cache.
+ * Not picked up by the regular test run, start it through the main method from the test classpath, e.g.:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=be.inniger.euler.util.SieveBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SieveBenchmark {
+
+  @Param({"1000000", "100000000", "1000000000"})
+  private int upUntil;
+
+  @Benchmark
+  public long oddOnlyTable() {
+    return PrimeTable.primeTable(upUntil).count();
+  }
+
+  @Benchmark
+  public long wheelTable() {
+    return WheelPrimeTable.wheelPrimeTable(upUntil).count();
+  }
+
+  @Benchmark
+  public int[] oddOnlyPrimes() {
+    return SieveMode.ODD_ONLY.primesUpUntil(upUntil);
+  }
+
+  @Benchmark
+  public int[] wheelPrimes() {
+    return SieveMode.WHEEL_30.primesUpUntil(upUntil);
+  }
+
+  @Benchmark
+  public long oddOnlySupplierGrowth() {
+    return supplierGrowth(SieveMode.ODD_ONLY);
+  }
+
+  @Benchmark
+  public long wheelSupplierGrowth() {
+    return supplierGrowth(SieveMode.WHEEL_30);
+  }
+
+  /*
+   * Replays the growth of the supplier cache up until upUntil: every window ]n, 2n] is sieved through primesBetween
+   */
+  private long supplierGrowth(SieveMode sieveMode) {
+    var basePrimes = sieveMode.primesUpUntil((int) Math.isqrt(upUntil));
+    var nrPrimes = 0L;
+    for (var from = 1_001L; from <= upUntil; from = 2 * from - 1) {
+      nrPrimes += sieveMode.primesBetween((int) from, (int) Math.min(2 * from - 2, upUntil), basePrimes, basePrimes.length).length;
+    }
+
+    return nrPrimes;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(SieveBenchmark.class.getSimpleName())
+        .build())
+        .run();
+  }
+}
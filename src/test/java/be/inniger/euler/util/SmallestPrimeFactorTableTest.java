@@ -0,0 +1,68 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import static be.inniger.euler.util.PrimeTable.primeTable;
+import static be.inniger.euler.util.SmallestPrimeFactorTable.smallestPrimeFactorTable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SmallestPrimeFactorTableTest {
+
+  @Test
+  public void canGetSmallestPrimeFactors() {
+    var table = smallestPrimeFactorTable(100);
+
+    assertEquals(2, table.smallestPrimeFactor(2));
+    assertEquals(3, table.smallestPrimeFactor(3));
+    assertEquals(2, table.smallestPrimeFactor(4));
+    assertEquals(3, table.smallestPrimeFactor(45));
+    assertEquals(7, table.smallestPrimeFactor(49));
+    assertEquals(97, table.smallestPrimeFactor(97));
+    assertEquals(2, table.smallestPrimeFactor(100));
+  }
+
+  @Test
+  public void agreesWithTrialDivision() {
+    var table = smallestPrimeFactorTable(10_000);
+
+    for (var n = 2; n <= 10_000; n++) {
+      var divisor = 2;
+      while (n % divisor != 0) {
+        divisor++;
+      }
+      assertEquals(divisor, table.smallestPrimeFactor(n), "Mismatch for " + n);
+    }
+  }
+
+  @Test
+  public void agreesWithThePrimeTable() {
+    var table = smallestPrimeFactorTable(1_000_000);
+    var primeTable = primeTable(1_000_000);
+
+    assertFalse(table.isPrime(0));
+    assertFalse(table.isPrime(1));
+    assertTrue(table.isPrime(2));
+    for (var n = 0; n <= 1_000_000; n++) {
+      assertEquals(primeTable.isPrime(n), table.isPrime(n), "Mismatch for " + n);
+    }
+  }
+
+  @Test
+  public void throwsOnNumberOutsideOfTable() {
+    var table = smallestPrimeFactorTable(100);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> table.smallestPrimeFactor(1));
+    assertThrows(IllegalArgumentException.class,
+        () -> table.smallestPrimeFactor(101));
+  }
+
+  @Test
+  public void throwsOnTableWithoutPrimes() {
+    assertThrows(IllegalArgumentException.class,
+        () -> smallestPrimeFactorTable(1));
+  }
+}
@@ -0,0 +1,99 @@
+package be.inniger.euler.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Compares roundedSqrt with isqrt in the inner loop of a trial division proper divisor sum, as problems 21 and 23 used to do,
+ * and the square root based perfect square check with isPerfectSquare.
+ * Not picked up by the regular test run, start it through the main method from the test classpath, e.g.:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=be.inniger.euler.util.SqrtBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SqrtBenchmark {
+
+  @Param({"10000", "30000"})
+  private int upUntil;
+
+  @Benchmark
+  public long properDivisorSumsRoundedSqrt() {
+    var total = 0L;
+    for (var n = 2; n <= upUntil; n++) {
+      var sum = 1L;
+      for (var i = 2; i <= Math.roundedSqrt(n); i++) {
+        if (n % i == 0) {
+          sum += i == n / i ? i : i + n / i;
+        }
+      }
+      total += sum;
+    }
+
+    return total;
+  }
+
+  @Benchmark
+  public long properDivisorSumsIsqrt() {
+    var total = 0L;
+    for (var n = 2; n <= upUntil; n++) {
+      var sum = 1L;
+      for (var i = 2; i <= Math.isqrt(n); i++) {
+        if (n % i == 0) {
+          sum += i == n / i ? i : i + n / i;
+        }
+      }
+      total += sum;
+    }
+
+    return total;
+  }
+
+  @Benchmark
+  public int perfectSquaresRoundedSqrt() {
+    var nrSquares = 0;
+    for (var n = 0L; n < 100L * upUntil; n++) {
+      var root = (long) Math.roundedSqrt(n);
+      if (root * root == n) {
+        nrSquares++;
+      }
+    }
+
+    return nrSquares;
+  }
+
+  @Benchmark
+  public int perfectSquaresIsPerfectSquare() {
+    var nrSquares = 0;
+    for (var n = 0L; n < 100L * upUntil; n++) {
+      if (Math.isPerfectSquare(n)) {
+        nrSquares++;
+      }
+    }
+
+    return nrSquares;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(SqrtBenchmark.class.getSimpleName())
+        .build())
+        .run();
+  }
+}
@@ -2,7 +2,15 @@ package be.inniger.euler.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static be.inniger.euler.util.PrimeTable.primeTable;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class UnboundPrimeSupplierTest {
 
@@ -26,4 +34,75 @@ class UnboundPrimeSupplierTest {
     assertEquals(3, secondSupplier.nextPrime());
     assertEquals(3, firstSupplier.nextPrime());
   }
+
+  @Test
+  void growingKeepsTheSequenceOfPrimesIntact() {
+    var expected = primeTable(2_000_000).toArray();
+
+    assertArrayEquals(expected, UnboundPrimeSupplier.newInstance().asStream().limit(expected.length).toArray());
+  }
+
+  @Test
+  void everySieveModeSuppliesTheSamePrimes() {
+    var expected = primeTable(2_000_000).toArray();
+
+    for (var sieveMode : SieveMode.values()) {
+      assertArrayEquals(expected, UnboundPrimeSupplier.newInstance(sieveMode).asStream().limit(expected.length).toArray());
+    }
+  }
+
+  @Test
+  void sharedSupplierHandsOutEveryPrimeExactlyOnce() {
+    var expected = primeTable(3_000_000).toArray();
+    var supplier = UnboundPrimeSupplier.newInstance();
+    var handedOut = ConcurrentHashMap.<Integer>newKeySet();
+
+    IntStream.range(0, expected.length)
+        .parallel()
+        .forEach(__ -> assertTrue(handedOut.add(supplier.nextPrime())));
+
+    assertArrayEquals(expected, handedOut.stream().mapToInt(Integer::intValue).sorted().toArray());
+  }
+
+  @Test
+  void rangeSupplierOnlyHandsOutItsOwnPrimes() {
+    var supplier = UnboundPrimeSupplier.newInstance(SieveMode.ODD_ONLY, 3, 5);
+
+    assertEquals(7, supplier.nextPrime());
+    assertEquals(11, supplier.nextPrime());
+    assertThrows(NoSuchElementException.class, supplier::nextPrime);
+  }
+
+  @Test
+  void disjointRangesSplitThePrimesBetweenThreads() {
+    var expected = primeTable(3_000_000).toArray();
+    var nrRanges = 8;
+    var rangeSize = (expected.length + nrRanges - 1) / nrRanges;
+    var handedOut = ConcurrentHashMap.<Integer>newKeySet();
+
+    for (var sieveMode : SieveMode.values()) {
+      handedOut.clear();
+      IntStream.range(0, nrRanges)
+          .parallel()
+          .forEach(range -> {
+            var fromIndex = range * rangeSize;
+            var toIndex = Math.min(fromIndex + rangeSize, expected.length);
+            var supplier = UnboundPrimeSupplier.newInstance(sieveMode, fromIndex, toIndex);
+            for (var i = fromIndex; i < toIndex; i++) {
+              assertTrue(handedOut.add(supplier.nextPrime()));
+            }
+            assertThrows(NoSuchElementException.class, supplier::nextPrime);
+          });
+
+      assertArrayEquals(expected, handedOut.stream().mapToInt(Integer::intValue).sorted().toArray());
+    }
+  }
+
+  @Test
+  void throwsOnInvalidRange() {
+    assertThrows(IllegalArgumentException.class,
+        () -> UnboundPrimeSupplier.newInstance(SieveMode.ODD_ONLY, -1, 5));
+    assertThrows(IllegalArgumentException.class,
+        () -> UnboundPrimeSupplier.newInstance(SieveMode.ODD_ONLY, 5, 4));
+  }
 }
@@ -0,0 +1,70 @@
+package be.inniger.euler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static be.inniger.euler.util.PrimeTable.primeTable;
+import static be.inniger.euler.util.WheelPrimeTable.wheelPrimeTable;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WheelPrimeTableTest {
+
+  @Test
+  public void canGetPrimes() {
+    assertArrayEquals(new int[]{2}, wheelPrimeTable(2).toArray());
+    assertArrayEquals(new int[]{2, 3}, wheelPrimeTable(4).toArray());
+    assertArrayEquals(new int[]{2, 3, 5, 7, 11, 13, 17, 19}, wheelPrimeTable(19).toArray());
+    assertArrayEquals(new int[]{2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31}, wheelPrimeTable(31).toArray());
+  }
+
+  @Test
+  public void agreesWithTheOddOnlyTable() {
+    for (var upUntil = 2; upUntil <= 500; upUntil++) {
+      assertArrayEquals(primeTable(upUntil).toArray(), wheelPrimeTable(upUntil).toArray(), "Mismatch up until " + upUntil);
+      assertArrayEquals(primeTable(upUntil).toArray(), wheelPrimeTable(upUntil).stream().toArray(), "Mismatch up until " + upUntil);
+    }
+
+    var upUntil = 3_000_017;
+    var expected = primeTable(upUntil);
+    var actual = wheelPrimeTable(upUntil);
+    assertArrayEquals(expected.toArray(), actual.toArray());
+    assertArrayEquals(expected.longStream().toArray(), actual.longStream().toArray());
+    IntStream.rangeClosed(-1, upUntil)
+        .forEach(i -> assertEquals(expected.isPrime(i), actual.isPrime(i), "Mismatch for " + i));
+  }
+
+  @Test
+  public void canCountPrimes() {
+    assertEquals(1, wheelPrimeTable(2).count());
+    assertEquals(3, wheelPrimeTable(5).count());
+    assertEquals(168, wheelPrimeTable(1_000).count());
+    assertEquals(664_579, wheelPrimeTable(10_000_000).count());
+  }
+
+  @Test
+  public void canGetPrimesInAWindow() {
+    var basePrimes = primeTable(1_000).toArray();
+    var expected = IntStream.of(primeTable(987_654).toArray())
+        .filter(prime -> prime >= 123_457)
+        .toArray();
+
+    assertArrayEquals(new int[]{2, 3, 5, 7}, WheelPrimeTable.primesBetween(0, 10, basePrimes, basePrimes.length));
+    assertArrayEquals(new int[]{}, WheelPrimeTable.primesBetween(24, 28, basePrimes, basePrimes.length));
+    assertArrayEquals(expected, WheelPrimeTable.primesBetween(123_457, 987_654, basePrimes, basePrimes.length));
+  }
+
+  @Test
+  public void throwsOnUpUntilNumberTooSmallToContainPrimes() {
+    assertThrows(IllegalArgumentException.class,
+        () -> wheelPrimeTable(1));
+  }
+
+  @Test
+  public void throwsOnLookupOutsideOfTheTable() {
+    assertThrows(IllegalArgumentException.class,
+        () -> wheelPrimeTable(100).isPrime(101));
+  }
+}
@@ -2,13 +2,24 @@ package be.inniger.euler.value;
 
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
+import static be.inniger.euler.util.SmallestPrimeFactorTable.smallestPrimeFactorTable;
 import static be.inniger.euler.value.Factor.factor;
+import static be.inniger.euler.value.FactorizedInteger.factorizeRange;
 import static be.inniger.euler.value.FactorizedInteger.factorizedInteger;
 import static java.util.stream.Collectors.toUnmodifiableSet;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class FactorizedIntegerTest {
 
@@ -50,7 +61,202 @@ class FactorizedIntegerTest {
     assertEquals(Set.of(factor(2, 2), factor(5, 2)), getFactors(100));
   }
 
+  @Test
+  public void canGetFactorsOfLongs() {
+    assertEquals(Set.of(), getFactors(0L));
+    assertEquals(Set.of(factor(2, 2), factor(5, 2)), getFactors(100L));
+    assertEquals(Set.of(factor(2, 2), factor(5, 2)), getFactors(-100L));
+    assertEquals(Set.of(factor(71, 1), factor(839, 1), factor(1471, 1), factor(6857, 1)), getFactors(600_851_475_143L));
+    assertEquals(Set.of(factor(998_244_353L, 1), factor(1_000_000_007L, 1)), getFactors(998_244_353L * 1_000_000_007L));
+    assertEquals(Set.of(factor(2, 62)), getFactors(1L << 62));
+  }
+
+  @Test
+  public void canGetFactorsOfLargeInts() {
+    assertEquals(Set.of(factor(2, 30)), getFactors(1 << 30));
+    assertEquals(Set.of(factor(2, 31)), getFactors(Integer.MIN_VALUE));
+    assertEquals(Set.of(factor(2_147_483_647, 1)), getFactors(Integer.MAX_VALUE));
+    assertEquals(Set.of(factor(2, 1), factor(1_073_741_789, 1)), getFactors(2 * 1_073_741_789));
+    assertEquals(Set.of(factor(46_337, 2)), getFactors(46_337 * 46_337));
+  }
+
+  @Test
+  public void canGetFactorsOfBigIntegers() {
+    assertEquals(getFactors(600_851_475_143L),
+        factorizedInteger(BigInteger.valueOf(600_851_475_143L)).getFactors().collect(toUnmodifiableSet()));
+    assertEquals(Set.of(factor(7, 2), factor(73, 1), factor(127, 1), factor(337, 1), factor(92_737, 1), factor(649_657, 1)),
+        factorizedInteger(BigInteger.valueOf(Long.MAX_VALUE).negate()).getFactors().collect(toUnmodifiableSet()));
+  }
+
+  @Test
+  public void throwsOnBigIntegersBeyondLong() {
+    assertThrows(IllegalArgumentException.class,
+        () -> factorizedInteger(BigInteger.TWO.pow(63)));
+  }
+
+  @Test
+  public void intAndLongFactorizationsAgree() {
+    for (var i = 1; i <= 1_000; i++) {
+      assertEquals(getFactors(i), getFactors((long) i));
+    }
+  }
+
+  @Test
+  public void tableAndTrialDivisionFactorizationsAgree() {
+    var table = smallestPrimeFactorTable(1_000);
+
+    assertEquals(Set.of(), factorizedInteger(0, table).getFactors().collect(toUnmodifiableSet()));
+    for (var i = -1_000; i <= 1_000; i++) {
+      assertEquals(getFactors(i), factorizedInteger(i, table).getFactors().collect(toUnmodifiableSet()), "Mismatch for " + i);
+    }
+  }
+
+  @Test
+  public void canFactorizeRange() {
+    var factorizations = factorizeRange(1, 1_000_000).collect(Collectors.toList());
+
+    assertEquals(1_000_000, factorizations.size());
+    assertEquals(factorizedInteger(1), factorizations.get(0));
+    assertEquals(Set.of(factor(2, 6), factor(5, 6)), factorizations.get(999_999).getFactors().collect(toUnmodifiableSet()));
+    assertEquals(getFactors(720_720L), factorizations.get(720_719).getFactors().collect(toUnmodifiableSet()));
+    assertEquals(getFactors(999_983L), factorizations.get(999_982).getFactors().collect(toUnmodifiableSet()));
+  }
+
+  @Test
+  public void canCountDivisors() {
+    assertEquals(1, factorizedInteger(1).divisorCount());
+    assertEquals(2, factorizedInteger(7).divisorCount());
+    assertEquals(6, factorizedInteger(12).divisorCount());
+    assertEquals(6, factorizedInteger(-12).divisorCount());
+    assertEquals(576, factorizedInteger(76_576_500L).divisorCount());
+    assertEquals(63, factorizedInteger(1L << 62).divisorCount());
+  }
+
+  @Test
+  public void canSumPowersOfDivisors() {
+    assertEquals(6, factorizedInteger(12).sigma(0));
+    assertEquals(28, factorizedInteger(12).sigma(1));
+    assertEquals(210, factorizedInteger(12).sigma(2));
+    assertEquals(504, factorizedInteger(220).sigma(1));
+    assertEquals(504, factorizedInteger(284).sigma(1));
+    assertEquals(1, factorizedInteger(1).sigma(3));
+    assertEquals((1L << 63) - 1, factorizedInteger(1L << 62).sigma(1));
+  }
+
+  @Test
+  public void divisorFunctionsAgreeWithTrialDivision() {
+    var table = smallestPrimeFactorTable(2_000);
+
+    for (var n = 1; n <= 2_000; n++) {
+      var divisorCount = 0L;
+      var divisorSum = 0L;
+      for (var d = 1; d <= n; d++) {
+        if (n % d == 0) {
+          divisorCount++;
+          divisorSum += d;
+        }
+      }
+      assertEquals(divisorCount, factorizedInteger(n, table).divisorCount(), "Mismatch for " + n);
+      assertEquals(divisorSum, factorizedInteger(n, table).sigma(1), "Mismatch for " + n);
+    }
+  }
+
+  @Test
+  public void throwsOnOverflowingSigma() {
+    assertThrows(ArithmeticException.class,
+        () -> factorizedInteger(1L << 62).sigma(2));
+  }
+
+  @Test
+  public void throwsOnDivisorsOfZero() {
+    assertThrows(IllegalStateException.class,
+        () -> factorizedInteger(0).divisorCount());
+    assertThrows(IllegalStateException.class,
+        () -> factorizedInteger(0L).sigma(1));
+  }
+
+  @Test
+  public void throwsOnNegativeSigma() {
+    assertThrows(IllegalArgumentException.class,
+        () -> factorizedInteger(12).sigma(-1));
+  }
+
+  @Test
+  public void canIterateOverFactorsInAscendingOrder() {
+    var factors = new ArrayList<Factor>();
+    factorizedInteger(-360L).forEachFactor((prime, exponent) -> factors.add(factor(prime, exponent)));
+
+    assertEquals(List.of(factor(2, 3), factor(3, 2), factor(5, 1)), factors);
+    assertEquals(factors, factorizedInteger(360).getFactors().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void canIterateOverDivisors() {
+    var divisors = new ArrayList<Long>();
+    factorizedInteger(-12).forEachDivisor(divisors::add);
+
+    assertEquals(Set.of(1L, 2L, 3L, 4L, 6L, 12L), Set.copyOf(divisors));
+    assertEquals(6, divisors.size());
+  }
+
+  @Test
+  public void canGetSortedDivisors() {
+    var buffer = new long[1_000];
+
+    assertEquals(1, factorizedInteger(1).divisors(buffer));
+    assertEquals(1, buffer[0]);
+    assertEquals(9, factorizedInteger(100).divisors(buffer));
+    assertArrayEquals(new long[]{1, 2, 4, 5, 10, 20, 25, 50, 100}, Arrays.copyOf(buffer, 9));
+    assertEquals(576, factorizedInteger(76_576_500L).divisors(buffer));
+    assertEquals(76_576_500L, buffer[575]);
+    for (var i = 1; i < 576; i++) {
+      assertTrue(buffer[i - 1] < buffer[i]);
+      assertEquals(0, 76_576_500L % buffer[i]);
+    }
+  }
+
+  @Test
+  public void divisorsAgreeWithTrialDivision() {
+    var table = smallestPrimeFactorTable(2_000);
+    var buffer = new long[100];
+
+    for (var n = 1; n <= 2_000; n++) {
+      var number = n;
+      var nrDivisors = factorizedInteger(number, table).divisors(buffer);
+      var expected = LongStream.rangeClosed(1, number)
+          .filter(divisor -> number % divisor == 0)
+          .toArray();
+      assertArrayEquals(expected, Arrays.copyOf(buffer, nrDivisors), "Mismatch for " + n);
+    }
+  }
+
+  @Test
+  public void throwsOnTooSmallDivisorBuffer() {
+    assertThrows(IllegalArgumentException.class,
+        () -> factorizedInteger(12).divisors(new long[5]));
+  }
+
+  @Test
+  public void throwsOnValueOutsideOfTable() {
+    var table = smallestPrimeFactorTable(100);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> factorizedInteger(101, table));
+  }
+
+  @Test
+  public void throwsOnEmptyRange() {
+    assertThrows(IllegalArgumentException.class,
+        () -> factorizeRange(10, 9));
+    assertThrows(IllegalArgumentException.class,
+        () -> factorizeRange(0, 9));
+  }
+
   private Set<Factor> getFactors(int number) {
     return factorizedInteger(number).getFactors().collect(toUnmodifiableSet());
   }
+
+  private Set<Factor> getFactors(long number) {
+    return factorizedInteger(number).getFactors().collect(toUnmodifiableSet());
+  }
 }